@@ -0,0 +1,117 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * JWT 발급과 검증 경로의 처리량을 측정합니다.
+ * Secure Manager 대신 고정된 테스트 키를 응답하는 RestTemplate 으로 키링을 구성합니다.
+ *
+ * <pre>
+ * mvn -P benchmark -DskipTests verify
+ * mvn -P benchmark -DskipTests verify -Djmh.includes=TokenUtilsBenchmark.parseToken
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenUtilsBenchmark {
+
+    private static final String TEST_KEY = "test-keytest-keytest-keytest-keytest-keytest-key";
+    private static final long EXPIRE_TIME = 1_800_000L;
+    private static final long REFRESH_EXPIRE_TIME = 604_800_000L;
+
+    @Param({ "false", "true" })
+    private boolean cacheEnabled;
+
+    private TokenUtils tokenUtils;
+    private Authentication authentication;
+    private String jwt;
+    private String expiredJwt;
+    private VerifiedToken verifiedToken;
+
+    /**
+     * 고정 키로 TokenUtils 와 측정에 사용할 토큰을 준비합니다.
+     */
+    @Setup
+    public void setUp() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheEnabled, 10_000L);
+        JwtKeyringProvider keyringProvider =
+            new JwtKeyringProvider(new FixedSecretRestTemplate(TEST_KEY), "secret-url", "HS256", "", cache);
+
+        tokenUtils = new TokenUtils(keyringProvider, EXPIRE_TIME, REFRESH_EXPIRE_TIME, true, 5, cache);
+        authentication = new UsernamePasswordAuthenticationToken(
+            "9c151cf8-47f7-41e4-b4eb-e8dcb94a6081", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        jwt = tokenUtils.generateJwt(authentication, new Date());
+        expiredJwt = tokenUtils.generateJwt(authentication, new Date(System.currentTimeMillis() - 2 * EXPIRE_TIME));
+        verifiedToken = tokenUtils.parseToken(jwt).orElseThrow();
+    }
+
+    @Benchmark
+    public String generateJwt() {
+        return tokenUtils.generateJwt(authentication, new Date());
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> parseToken() {
+        return tokenUtils.parseToken(jwt);
+    }
+
+    @Benchmark
+    public VerifiedToken parseExpiredToken() {
+        return tokenUtils.parseExpiredToken(expiredJwt);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenUtils.getAuthentication(verifiedToken);
+    }
+
+    /**
+     * Secure Manager 를 호출하지 않고 항상 같은 비밀 키를 응답하는 RestTemplate 입니다.
+     */
+    private static class FixedSecretRestTemplate extends RestTemplate {
+
+        private final String secret;
+
+        FixedSecretRestTemplate(String secret) {
+            this.secret = secret;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                              ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+
+            return (ResponseEntity<T>) ResponseEntity.ok(Map.of("body", Map.of("secret", secret)));
+        }
+
+    }
+
+}
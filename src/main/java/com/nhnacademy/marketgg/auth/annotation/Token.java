@@ -6,7 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * JWT 를 주입받을 수 있는 어노테이션.
+ * 검증된 JWT 정보(VerifiedToken)를 주입받을 수 있는 어노테이션.
  *
  * @author 윤동열
  */
@@ -1,7 +1,9 @@
 package com.nhnacademy.marketgg.auth.aop;
 
 import com.nhnacademy.marketgg.auth.annotation.Token;
+import com.nhnacademy.marketgg.auth.jwt.RevokedTokenRegistry;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import java.lang.reflect.Parameter;
 import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
@@ -18,6 +20,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * 토큰을 자동으로 파싱 및 검증하여 필요한 컨트롤러에 파라미터로 전달합니다.
+ * 서명 검증과 클레임 파싱은 요청마다 한 번만 수행하고, 그 결과인 VerifiedToken 을 전달합니다.
  *
  * @author 윤동열
  * @version 1.0.0
@@ -29,6 +32,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class TokenAspect {
 
     private final TokenUtils tokenUtils;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     /**
      * 토큰을 파싱 및 검증합니다.
@@ -48,12 +52,13 @@ public class TokenAspect {
 
         String token = request.getHeader(HttpHeaders.AUTHORIZATION);
 
-        if (Objects.isNull(token) || !token.startsWith(TokenUtils.BEARER) || tokenUtils.isInvalidToken(token)) {
+        if (Objects.isNull(token) || !token.startsWith(TokenUtils.BEARER)) {
             throw new IllegalArgumentException();
         }
 
-        String jwt = token.substring(TokenUtils.BEARER_LENGTH);
-        log.info("Parsed jwt = {}", jwt);
+        VerifiedToken verifiedToken = tokenUtils.parseToken(token.substring(TokenUtils.BEARER_LENGTH))
+                                                .filter(parsed -> !revokedTokenRegistry.isRevoked(parsed))
+                                                .orElseThrow(IllegalArgumentException::new);
 
         Object[] args = pjp.getArgs();
 
@@ -63,7 +68,7 @@ public class TokenAspect {
         for (int i = 0; i < parameters.length && !isFound; i++) {
             Parameter parameter = parameters[i];
             if (parameter.getAnnotation(Token.class) != null) {
-                args[i] = jwt;
+                args[i] = verifiedToken;
                 break;
             }
         }
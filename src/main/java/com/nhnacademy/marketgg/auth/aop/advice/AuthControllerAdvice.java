@@ -11,6 +11,8 @@ import com.nhnacademy.marketgg.auth.exception.EmailOverlapException;
 import com.nhnacademy.marketgg.auth.exception.InvalidLoginRequestException;
 import com.nhnacademy.marketgg.auth.exception.LoginFailException;
 import com.nhnacademy.marketgg.auth.exception.OAuthRequestFailException;
+import com.nhnacademy.marketgg.auth.exception.PasswordHashingRejectedException;
+import com.nhnacademy.marketgg.auth.exception.RedisUnavailableException;
 import com.nhnacademy.marketgg.auth.exception.UnAuthorizationException;
 import com.nhnacademy.marketgg.auth.exception.WithdrawMemberException;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.redis.connection.RedisInvalidSubscriptionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -139,6 +142,43 @@ public class AuthControllerAdvice {
                              .body(AuthResult.error(error));
     }
 
+    /**
+     * Redis 를 사용할 수 없어 요청을 처리하지 못한 경우의 예외를 처리합니다.
+     *
+     * @return 503 Http Status 와 다시 시도할 때까지의 시간을 응답합니다.
+     */
+    @ExceptionHandler(RedisUnavailableException.class)
+    public ResponseEntity<AuthResult<Void>> handleRedisUnavailableException(RedisUnavailableException e) {
+        log.warn(e.toString());
+
+        String msg = messageSource.getMessage(e.getExceptionCode(), null, LocaleContextHolder.getLocale());
+        ErrorEntity error = new ErrorEntity(msg);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(AuthResult.error(error));
+    }
+
+    /**
+     * 비밀번호 해시 풀이 가득 차 요청을 거부한 경우의 예외를 처리합니다.
+     *
+     * @return 503 Http Status 와 다시 시도할 때까지의 시간을 응답합니다.
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<AuthResult<Void>> handlePasswordHashingRejectedException(
+            PasswordHashingRejectedException e) {
+        log.warn(e.toString());
+
+        String msg = messageSource.getMessage(e.getExceptionCode(), null, LocaleContextHolder.getLocale());
+        ErrorEntity error = new ErrorEntity(msg);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(AuthResult.error(error));
+    }
+
     private ErrorEntity getErrorEntity(AuthException e) {
         String msg = messageSource.getMessage(e.getExceptionCode(), null, LocaleContextHolder.getLocale());
         return new ErrorEntity(msg);
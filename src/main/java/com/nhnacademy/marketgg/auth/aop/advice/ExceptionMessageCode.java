@@ -16,6 +16,8 @@ public enum ExceptionMessageCode {
     INVALID_LOGIN_REQUEST("invalidLoginRequest.msg"),
     LOGIN_FAIL("loginFail.msg"),
     SECURE_MANAGER("secureManager.msg"),
+    REDIS_UNAVAILABLE("redisUnavailable.msg"),
+    PASSWORD_HASHING_REJECTED("passwordHashingRejected.msg"),
     OAUTH_REQUEST_FAIL("oauthRequestFail.msg"),
     UNAUTHORIZATION("unAuthorization.msg"),
     INVALID_REQUEST("invalidRequest.msg"),
@@ -0,0 +1,38 @@
+package com.nhnacademy.marketgg.auth.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 관련 설정을 진행합니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+public class JpaConfig {
+
+    /**
+     * Hibernate 2차 캐시를 Caffeine JCache 로 설정합니다.
+     * {@code @Cacheable} 이 붙은 엔티티만 캐시하며, 캐시 영역은 처음 사용할 때 만듭니다.
+     *
+     * @param enabled - 2차 캐시 사용 여부
+     * @return 2차 캐시 설정을 추가하는 HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${gg.jpa.second-level-cache.enabled:true}") boolean enabled) {
+
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.PROVIDER, CaffeineCachingProvider.class.getName());
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        };
+    }
+
+}
@@ -1,17 +1,39 @@
 package com.nhnacademy.marketgg.auth.config;
 
 import com.nhnacademy.marketgg.auth.exception.SecureManagerException;
+import com.nhnacademy.marketgg.auth.jwt.RevocationListener;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.http.HttpMethod;
@@ -21,6 +43,10 @@ import org.springframework.web.client.RestTemplate;
 /**
  * Redis 기본 설정을 담당합니다.
  *
+ * <p>{@code gg.redis.mode} 로 단일(standalone), Sentinel, Cluster 구성을 선택합니다.
+ * Sentinel 과 Cluster 는 {@code gg.redis.nodes} 의 노드 목록을 사용하고, 목록이 없으면 Secure Manager 의 주소를 사용합니다.
+ * 명령은 공유 커넥션으로 처리하고, 트랜잭션이나 파이프라인처럼 커넥션을 독점하는 명령만 커넥션 풀을 사용합니다.</p>
+ *
  * @author 윤동열, 이제훈
  * @version 1.0.0
  */
@@ -32,6 +58,9 @@ public class RedisConfig {
     private final int port;
     private final int database;
     private final String password;
+    private final RedisMode mode;
+    private final List<RedisNode> nodes;
+    private final String sentinelMaster;
 
     /**
      * RedisConfig 생성자입니다.
@@ -39,10 +68,16 @@ public class RedisConfig {
      * @param restTemplate     - Redis 명령어를 수행하기 위한 고수준 추상화 클래스
      * @param redisInfoUrl     - 암호화한 Redis Info 경로
      * @param redisPasswordUrl - 암호화한 Redis 비밀번호 경로
+     * @param mode             - Redis 구성 (standalone, sentinel, cluster)
+     * @param nodes            - Sentinel 또는 Cluster 노드 목록 (host:port 를 쉼표로 구분)
+     * @param sentinelMaster   - Sentinel 이 관리하는 master 이름
      */
     public RedisConfig(@Qualifier("clientCertificateAuthenticationRestTemplate") RestTemplate restTemplate,
                        @Value("${gg.redis.url}") String redisInfoUrl,
-                       @Value("${gg.redis.password-url}") String redisPasswordUrl) {
+                       @Value("${gg.redis.password-url}") String redisPasswordUrl,
+                       @Value("${gg.redis.mode:standalone}") String mode,
+                       @Value("${gg.redis.nodes:}") String nodes,
+                       @Value("${gg.redis.sentinel.master:mymaster}") String sentinelMaster) {
 
         this.restTemplate = restTemplate;
         String[] info = this.getRedisInfo(redisInfoUrl);
@@ -50,25 +85,110 @@ public class RedisConfig {
         this.port = Integer.parseInt(info[1]);
         this.database = Integer.parseInt(info[2]);
         this.password = this.getRedisPassword(redisPasswordUrl);
+        this.mode = RedisMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.nodes = this.parseNodes(nodes);
+        this.sentinelMaster = sentinelMaster;
     }
 
     /**
      * Redis 연결과 관련된 설정을 하는 RedisConnectionFactory 를 스프링 빈으로 등록한다.
      * key-value 형 데이터베이스를 사용하여 프로젝트를 데이터베이스에 연결하도록 지원하는 팩토리다.
+     * 모든 쓰기와 최신 값이 필요한 조회는 master 로 보냅니다.
      *
+     * @param clientConfiguration - 커넥션 풀을 포함한 Lettuce 클라이언트 설정
      * @return Thread-safe 한 Lettuce 기반의 커넥션 팩토리 (LettuceConnectionFactory)
      * @author 윤동열
      * @see <a href="https://lettuce.io/core/release/api">Lettuce 6.x Documentation</a>
      * @since 1.0.0
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+    @Primary
+    public RedisConnectionFactory redisConnectionFactory(LettucePoolingClientConfiguration clientConfiguration) {
+        return new LettuceConnectionFactory(this.redisConfiguration(), clientConfiguration);
+    }
+
+    /**
+     * 조회 전용 RedisConnectionFactory 를 스프링 빈으로 등록합니다.
+     * 복제본이 있으면 복제본에서 읽고, 없으면 master 에서 읽습니다.
+     * 복제 지연만큼 오래된 값을 읽을 수 있으므로 짧은 지연을 허용하는 조회에만 사용합니다.
+     *
+     * @param clientConfiguration - 커넥션 풀을 포함한 Lettuce 클라이언트 설정
+     * @param readFrom            - 조회할 노드 (Lettuce ReadFrom 이름)
+     * @return 복제본 우선 조회 커넥션 팩토리
+     */
+    @Bean
+    public RedisConnectionFactory replicaRedisConnectionFactory(
+            LettucePoolingClientConfiguration clientConfiguration,
+            @Value("${gg.redis.read-from:replicaPreferred}") String readFrom) {
 
-        configuration.setPassword(password);
-        configuration.setDatabase(database);
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder =
+                LettucePoolingClientConfiguration.builder()
+                                                 .poolConfig(clientConfiguration.getPoolConfig())
+                                                 .commandTimeout(clientConfiguration.getCommandTimeout())
+                                                 .readFrom(ReadFrom.valueOf(readFrom));
+        clientConfiguration.getClientOptions().ifPresent(builder::clientOptions);
 
-        return new LettuceConnectionFactory(configuration);
+        return new LettuceConnectionFactory(this.redisConfiguration(), builder.build());
+    }
+
+    /**
+     * 커넥션 풀과 Cluster 토폴로지 갱신을 포함한 Lettuce 클라이언트 설정을 스프링 빈으로 등록합니다.
+     * 일반 명령은 커넥션 하나를 공유하므로, 풀은 트랜잭션과 파이프라인처럼 커넥션을 독점하는 명령에만 사용됩니다.
+     * Redis 장애 시 요청이 오래 묶이지 않도록 명령과 연결 시간 초과를 짧게 두고, 연결이 끊긴 동안의 명령은 쌓아두지 않고 바로 실패시킵니다.
+     *
+     * @param maxTotal       - 풀의 최대 커넥션 수
+     * @param maxIdle        - 풀에 유지할 최대 유휴 커넥션 수
+     * @param minIdle        - 풀에 유지할 최소 유휴 커넥션 수
+     * @param maxWait        - 커넥션을 얻기 위해 기다리는 최대 시간 (밀리초)
+     * @param commandTimeout - 명령 시간 초과 (밀리초)
+     * @param connectTimeout - 연결 시간 초과 (밀리초)
+     * @return Lettuce 클라이언트 설정
+     * @see com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker
+     */
+    @Bean
+    public LettucePoolingClientConfiguration lettuceClientConfiguration(
+            @Value("${gg.redis.pool.max-total:16}") int maxTotal,
+            @Value("${gg.redis.pool.max-idle:8}") int maxIdle,
+            @Value("${gg.redis.pool.min-idle:0}") int minIdle,
+            @Value("${gg.redis.pool.max-wait:200}") long maxWait,
+            @Value("${gg.redis.command-timeout:500}") long commandTimeout,
+            @Value("${gg.redis.connect-timeout:500}") long connectTimeout) {
+
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxTotal);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(maxWait));
+
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder =
+                LettucePoolingClientConfiguration.builder()
+                                                 .poolConfig(poolConfig)
+                                                 .commandTimeout(Duration.ofMillis(commandTimeout));
+
+        SocketOptions socketOptions = SocketOptions.builder()
+                                                   .connectTimeout(Duration.ofMillis(connectTimeout))
+                                                   .build();
+
+        if (mode == RedisMode.CLUSTER) {
+            ClusterTopologyRefreshOptions refreshOptions =
+                    ClusterTopologyRefreshOptions.builder()
+                                                 .enableAllAdaptiveRefreshTriggers()
+                                                 .enablePeriodicRefresh(Duration.ofSeconds(30))
+                                                 .build();
+
+            builder.clientOptions(ClusterClientOptions.builder()
+                                                      .topologyRefreshOptions(refreshOptions)
+                                                      .socketOptions(socketOptions)
+                                                      .disconnectedBehavior(DisconnectedBehavior.REJECT_COMMANDS)
+                                                      .build());
+        } else {
+            builder.clientOptions(ClientOptions.builder()
+                                               .socketOptions(socketOptions)
+                                               .disconnectedBehavior(DisconnectedBehavior.REJECT_COMMANDS)
+                                               .build());
+        }
+
+        return builder.build();
     }
 
     /**
@@ -81,16 +201,102 @@ public class RedisConfig {
      * @since 1.0.0
      */
     @Bean
+    @Primary
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return this.createRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * 복제본에서 조회하는 RedisTemplate 을 스프링 빈으로 등록합니다.
+     * 폐기 여부처럼 짧은 복제 지연을 허용하는 조회에만 사용하고, 쓰기에는 사용하지 않습니다.
+     *
+     * @param replicaRedisConnectionFactory - 복제본 우선 조회 커넥션 팩토리
+     * @return 조회 전용 RedisTemplate
+     * @see RedisConfig#replicaRedisConnectionFactory
+     */
+    @Bean
+    public RedisTemplate<String, Object> replicaRedisTemplate(
+            @Qualifier("replicaRedisConnectionFactory") RedisConnectionFactory replicaRedisConnectionFactory) {
+
+        return this.createRedisTemplate(replicaRedisConnectionFactory);
+    }
+
+    private RedisTemplate<String, Object> createRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
 
         redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(String.class));
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 
         return redisTemplate;
     }
 
+    /**
+     * 토큰 폐기 채널을 구독하는 RedisMessageListenerContainer 를 스프링 빈으로 등록합니다.
+     * 연결이 끊기면 컨테이너가 다시 구독하고, 구독 시점마다 리스너가 전체 폐기 정보를 다시 동기화합니다.
+     *
+     * @param redisConnectionFactory - 스프링 빈으로 등록된 RedisConnectionFactory
+     * @param revocationListener     - 토큰 폐기 메시지 리스너
+     * @return 토큰 폐기 채널을 구독하는 컨테이너
+     * @see RevocationListener
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       RevocationListener revocationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(revocationListener, new ChannelTopic(RevocationListener.CHANNEL));
+
+        return container;
+    }
+
+    private RedisConfiguration redisConfiguration() {
+        switch (mode) {
+            case SENTINEL:
+                RedisSentinelConfiguration sentinel = new RedisSentinelConfiguration();
+                sentinel.master(sentinelMaster);
+                sentinel.setSentinels(nodes);
+                sentinel.setPassword(RedisPassword.of(password));
+                sentinel.setDatabase(database);
+                return sentinel;
+            case CLUSTER:
+                RedisClusterConfiguration cluster = new RedisClusterConfiguration();
+                cluster.setClusterNodes(nodes);
+                cluster.setPassword(RedisPassword.of(password));
+                return cluster;
+            default:
+                RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(host, port);
+                standalone.setPassword(password);
+                standalone.setDatabase(database);
+                return standalone;
+        }
+    }
+
+    private List<RedisNode> parseNodes(String nodes) {
+        List<RedisNode> parsed = new ArrayList<>();
+        for (String node : nodes.split(",")) {
+            if (node.isBlank()) {
+                continue;
+            }
+
+            int separator = node.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Redis 노드는 host:port 형식이어야 합니다. node = " + node);
+            }
+            parsed.add(new RedisNode(node.substring(0, separator).trim(),
+                                     Integer.parseInt(node.substring(separator + 1).trim())));
+        }
+
+        if (parsed.isEmpty()) {
+            parsed.add(new RedisNode(host, port));
+        }
+
+        return parsed;
+    }
+
     private String[] getRedisInfo(String infoUrl) {
         ResponseEntity<Map<String, Map<String, String>>> exchange =
                 restTemplate.exchange(infoUrl, HttpMethod.GET, null, new ParameterizedTypeReference<>() {
@@ -121,4 +327,8 @@ public class RedisConfig {
                        .get("secret");
     }
 
+    private enum RedisMode {
+        STANDALONE, SENTINEL, CLUSTER
+    }
+
 }
@@ -2,8 +2,15 @@ package com.nhnacademy.marketgg.auth.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.marketgg.auth.filter.JwtAuthenticationFilter;
+import com.nhnacademy.marketgg.auth.filter.RateLimitFilter;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.util.BoundedPasswordEncoder;
+import com.nhnacademy.marketgg.auth.util.RateLimiter;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -14,8 +21,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Spring Security 기본 설정을 진행합니다.
@@ -28,9 +38,14 @@ import org.springframework.security.web.SecurityFilterChain;
 @RequiredArgsConstructor
 public class WebSecurityConfig {
 
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
+
     private final ObjectMapper mapper;
     private final TokenUtils tokenUtils;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RateLimiter rateLimiter;
 
     /**
      * 인증을 관리하는 AuthenticationManger 를 반환합니다.
@@ -47,13 +62,38 @@ public class WebSecurityConfig {
     }
 
     /**
-     * Blowfish 알고리즘을 기반으로 비밀번호를 암호화합니다.
+     * {id} 접두사로 해시 알고리즘을 구분하는 DelegatingPasswordEncoder 로 비밀번호를 암호화합니다.
+     * 새 비밀번호는 gg.password.encoder 의 알고리즘으로 해시하고, 다른 알고리즘이나 더 낮은 비용으로 저장된
+     * 기존 해시는 로그인에 성공할 때 다시 해시됩니다. 접두사가 없는 기존 해시는 BCrypt 로 확인합니다.
+     * 해시는 Tomcat 작업 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 수행합니다.
      *
-     * @return 암호화 가능한 단방향 해시 함수인 BCryptPasswordEncoder
+     * @param idForEncode       - 새 비밀번호에 사용할 알고리즘 (bcrypt, pbkdf2)
+     * @param bcryptStrength    - BCrypt 비용 (4 ~ 31)
+     * @param poolSize          - 동시에 해시를 수행할 스레드 수, 0 이하면 CPU 코어 수
+     * @param queueCapacity     - 풀이 모두 사용 중일 때 대기할 수 있는 요청 수
+     * @param timeout           - 대기를 포함해 해시 결과를 기다리는 최대 시간 (밀리초)
+     * @param retryAfterSeconds - 거부 시 Retry-After 로 응답할 시간 (초)
+     * @return DelegatingPasswordEncoder 를 전용 스레드 풀에서 실행하는 PasswordEncoder
+     * @see com.nhnacademy.marketgg.auth.service.impl.DefaultUserDetailsService#updatePassword
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${gg.password.encoder:bcrypt}") String idForEncode,
+            @Value("${gg.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${gg.password.pool-size:0}") int poolSize,
+            @Value("${gg.password.queue-capacity:64}") int queueCapacity,
+            @Value("${gg.password.timeout:2000}") long timeout,
+            @Value("${gg.password.retry-after:1}") long retryAfterSeconds) {
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, poolSize, queueCapacity,
+                                          timeout, retryAfterSeconds);
     }
 
     /**
@@ -72,6 +112,7 @@ public class WebSecurityConfig {
             .logout().disable();
 
         http.addFilter(getJwtAuthenticationFilter());
+        http.addFilterBefore(new RateLimitFilter(rateLimiter), UsernamePasswordAuthenticationFilter.class);
 
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
 
@@ -87,9 +128,9 @@ public class WebSecurityConfig {
     private JwtAuthenticationFilter getJwtAuthenticationFilter() throws Exception {
         JwtAuthenticationFilter jwtAuthenticationFilter =
                 new JwtAuthenticationFilter(authenticationManager(null),
-                                            mapper, tokenUtils, redisTemplate);
+                                            mapper, tokenUtils, redisTemplate, redisCircuitBreaker, rateLimiter);
 
-        jwtAuthenticationFilter.setFilterProcessesUrl("/members/login");
+        jwtAuthenticationFilter.setFilterProcessesUrl(RateLimitFilter.LOGIN_URL);
 
         return jwtAuthenticationFilter;
     }
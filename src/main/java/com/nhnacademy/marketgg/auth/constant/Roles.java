@@ -1,8 +1,66 @@
 package com.nhnacademy.marketgg.auth.constant;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 회원 권한입니다.
+ * JWT 에는 권한 이름 대신 각 권한의 비트를 OR 한 정수로 기록합니다. 비트 값은 발급된 토큰과 호환되도록 바꾸지 않습니다.
+ */
 public enum Roles {
 
-    ROLE_ADMIN,
-    ROLE_USER
+    ROLE_ADMIN(1),
+    ROLE_USER(1 << 1);
+
+    private static final Roles[] VALUES = values();
+
+    private final int bit;
+
+    Roles(int bit) {
+        this.bit = bit;
+    }
+
+    /**
+     * 권한 비트마스크에 이 권한이 포함되어 있는지 확인합니다.
+     *
+     * @param bitmask - 권한 비트마스크
+     * @return 포함 여부
+     */
+    public boolean isIn(int bitmask) {
+        return (bitmask & bit) != 0;
+    }
+
+    /**
+     * 권한 목록을 비트마스크로 변환합니다.
+     *
+     * @param roles - 권한 목록
+     * @return 권한 비트마스크
+     */
+    public static int toBitmask(Collection<Roles> roles) {
+        int bitmask = 0;
+        for (Roles role : roles) {
+            bitmask |= role.bit;
+        }
+
+        return bitmask;
+    }
+
+    /**
+     * 비트마스크를 권한 목록으로 변환합니다. 알 수 없는 비트는 무시합니다.
+     *
+     * @param bitmask - 권한 비트마스크
+     * @return 권한 목록
+     */
+    public static Set<Roles> fromBitmask(int bitmask) {
+        Set<Roles> roles = EnumSet.noneOf(Roles.class);
+        for (Roles role : VALUES) {
+            if (role.isIn(bitmask)) {
+                roles.add(role);
+            }
+        }
+
+        return roles;
+    }
 
 }
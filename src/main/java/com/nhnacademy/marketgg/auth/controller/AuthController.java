@@ -4,24 +4,31 @@ import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import com.nhnacademy.marketgg.auth.annotation.Token;
+import com.nhnacademy.marketgg.auth.dto.request.token.TokenIntrospectRequest;
 import com.nhnacademy.marketgg.auth.dto.response.common.AuthResult;
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
+import com.nhnacademy.marketgg.auth.dto.response.token.TokenIntrospectResponse;
 import com.nhnacademy.marketgg.auth.exception.UnAuthorizationException;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import com.nhnacademy.marketgg.auth.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.util.List;
 import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -82,10 +89,30 @@ public class AuthController {
                              .body(AuthResult.success("Login Success"));
     }
 
+    /**
+     * API Gateway 가 여러 JWT 의 유효성을 한 번에 확인합니다.
+     *
+     * @param request - 확인할 JWT 목록
+     * @return 요청 순서와 같은 순서의 확인 결과 목록
+     */
+    @Operation(summary = "JWT 일괄 검증",
+        description = "여러 JWT 의 서명, 만료일, 로그아웃 여부를 한 번에 확인합니다.",
+        parameters = @Parameter(description = "확인할 JWT 목록", required = true),
+        responses = @ApiResponse(responseCode = "200",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = AuthResult.class))))
+    @PostMapping("/token/introspect")
+    public ResponseEntity<AuthResult<List<TokenIntrospectResponse>>> introspect(
+        @Valid @RequestBody final TokenIntrospectRequest request) {
+
+        return ResponseEntity.status(OK)
+                             .body(AuthResult.success(authService.introspect(request.getTokens())));
+    }
+
     /**
      * 회원이 로그아웃 요청 시 실행되는 메서드입니다.
      *
-     * @param token - 검증된 JWT
+     * @param token - 검증된 JWT 정보
      * @return 로그아웃이 완료되었다는 뜻으로 200 OK 를 응답합니다.
      */
     @Operation(summary = "로그아웃",
@@ -95,7 +122,7 @@ public class AuthController {
             content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = AuthResult.class))))
     @GetMapping("/logout")
-    public ResponseEntity<AuthResult<String>> logout(@Token String token) {
+    public ResponseEntity<AuthResult<String>> logout(@Token VerifiedToken token) {
         authService.logout(token);
 
         return ResponseEntity.status(OK)
@@ -3,7 +3,6 @@ package com.nhnacademy.marketgg.auth.controller;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.nhnacademy.marketgg.auth.annotation.Token;
 import com.nhnacademy.marketgg.auth.dto.request.AuthWithDrawRequest;
 import com.nhnacademy.marketgg.auth.dto.request.MemberInfoRequest;
@@ -17,6 +16,7 @@ import com.nhnacademy.marketgg.auth.dto.response.common.AuthResult;
 import com.nhnacademy.marketgg.auth.dto.response.common.PageEntity;
 import com.nhnacademy.marketgg.auth.exception.UnAuthorizationException;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import com.nhnacademy.marketgg.auth.service.AuthInfoService;
 import com.nhnacademy.marketgg.auth.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -57,13 +57,13 @@ public class AuthInfoController {
     /**
      * 회원정보 수정을 위한 컨트롤러 메서드 입니다.
      *
-     * @param token               - JWT
+     * @param token               - 검증된 JWT 정보
      * @param memberUpdateRequest - 수정할 회원 정보를 담고있는 객체 입니다.
      * @return - 상태코드를 리턴합니다.
      * @author 김훈민
      */
     @PutMapping
-    public ResponseEntity<AuthResult<UuidTokenResponse>> update(@Token String token,
+    public ResponseEntity<AuthResult<UuidTokenResponse>> update(@Token VerifiedToken token,
                                                                 @Valid @RequestBody
                                                                 final MemberUpdateRequest memberUpdateRequest) {
 
@@ -83,13 +83,13 @@ public class AuthInfoController {
     /**
      * 회원정보 삭제를 위한 컨트롤러 메서드 입니다.
      *
-     * @param token      - JWT
+     * @param token      - 검증된 JWT 정보
      * @param withdrawAt - Shop 에서 보낸 삭제 시간 입니다.
      * @return - 상태코드를 리턴합니다.
      * @author 김훈민
      */
     @DeleteMapping
-    public ResponseEntity<AuthResult<String>> withdraw(@Token String token,
+    public ResponseEntity<AuthResult<String>> withdraw(@Token VerifiedToken token,
                                                        @Valid @RequestBody final AuthWithDrawRequest withdrawAt) {
 
         authInfoService.withdraw(token, withdrawAt);
@@ -149,7 +149,7 @@ public class AuthInfoController {
     /**
      * JWT 토큰을 이용하여 사용자 정보를 응답합니다.
      *
-     * @param token - JWT
+     * @param token - 검증된 JWT 정보
      * @return - 사용자 정보
      * @throws UnAuthorizationException - JWT 를 통해 인증할 수 없는 사용자일 경우 발생하는 예외
      * @author 윤동열
@@ -161,7 +161,7 @@ public class AuthInfoController {
             content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = AuthResult.class))))
     @GetMapping
-    public ResponseEntity<AuthResult<MemberResponse>> getAuthInfo(@Token String token) throws UnAuthorizationException {
+    public ResponseEntity<AuthResult<MemberResponse>> getAuthInfo(@Token VerifiedToken token) throws UnAuthorizationException {
         MemberResponse data = authInfoService.findAuthByUuid(token);
         log.info("MemberResponse = {}", data);
 
@@ -173,14 +173,13 @@ public class AuthInfoController {
     /**
      * 사용자 목록을 조회합니다.
      *
-     * @param token - JWT
+     * @param token - 검증된 JWT 정보
      * @param page  - 페이지
      * @return 회원 정보 목록
      */
     @GetMapping("/list")
     public ResponseEntity<AuthResult<PageEntity<AdminMemberResponse>>> retrieveMembers(
-        @Token String token, @RequestParam(value = "page", defaultValue = "1") final Integer page)
-        throws JsonProcessingException {
+        @Token VerifiedToken token, @RequestParam(value = "page", defaultValue = "1") final Integer page) {
 
         if (!authInfoService.isAdmin(token)) {
             throw new UnAuthorizationException();
@@ -0,0 +1,58 @@
+package com.nhnacademy.marketgg.auth.controller;
+
+import com.nhnacademy.marketgg.auth.dto.response.jwks.JwksResponse;
+import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWT 서명 검증용 공개키를 제공하는 컨트롤러 클래스입니다.
+ * 다른 서비스는 이 공개키로 인증 서버를 거치지 않고 JWT 를 검증합니다.
+ *
+ * @version 1.0.0
+ */
+@RestController
+public class JwksController {
+
+    private final TokenUtils tokenUtils;
+    private final CacheControl cacheControl;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param tokenUtils - 공개키를 제공하는 TokenUtils
+     * @param maxAge     - 공개키 응답을 캐시할 수 있는 시간(초)
+     */
+    public JwksController(TokenUtils tokenUtils,
+                          @Value("${gg.jwt.jwks.max-age:3600}") long maxAge) {
+        this.tokenUtils = tokenUtils;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAge))
+                                        .cachePublic();
+    }
+
+    /**
+     * JWT 서명 검증용 공개키 목록을 JWK Set 형식으로 반환합니다.
+     *
+     * @return 공개키 목록
+     */
+    @Operation(summary = "JWK Set 조회",
+        description = "JWT 서명을 검증할 수 있는 공개키 목록을 조회합니다.",
+        responses = @ApiResponse(responseCode = "200",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = JwksResponse.class))))
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwksResponse> getJwks() {
+        return ResponseEntity.ok()
+                             .cacheControl(cacheControl)
+                             .body(new JwksResponse(tokenUtils.getPublicJwks()));
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.marketgg.auth.dto.request.token;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 JWT 의 유효성을 한 번에 확인하기 위한 요청입니다.
+ */
+@NoArgsConstructor
+@Getter
+public class TokenIntrospectRequest {
+
+    /**
+     * 한 번에 확인할 수 있는 최대 토큰 수.
+     */
+    public static final int MAX_TOKENS = 100;
+
+    @Schema(title = "JWT 목록", description = "유효성을 확인할 JWT 목록, Bearer 접두사가 있어도 됩니다.")
+    @NotEmpty
+    @Size(max = MAX_TOKENS)
+    private List<@NotBlank String> tokens;
+
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.marketgg.auth.dto.response.jwks;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 서명 검증용 공개키 목록(JWK Set)을 응답합니다.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc7517#section-5">RFC 7517 JWK Set Format</a>
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwksResponse {
+
+    private final List<Map<String, Object>> keys;
+
+}
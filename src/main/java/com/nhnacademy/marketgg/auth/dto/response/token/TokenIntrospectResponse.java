@@ -0,0 +1,66 @@
+package com.nhnacademy.marketgg.auth.dto.response.token;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 하나의 유효성 확인 결과입니다.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class TokenIntrospectResponse {
+
+    private static final TokenIntrospectResponse INACTIVE =
+        new TokenIntrospectResponse(false, null, List.of(), null, false);
+
+    @Schema(title = "유효 여부", description = "서명과 만료일이 유효하고 로그아웃되지 않은 토큰인지 여부", example = "true")
+    private final boolean active;
+
+    @Schema(title = "사용자 UUID", description = "토큰의 subject", example = "9c151cf8-47f7-41e4-b4eb-e8dcb94a6081")
+    private final String uuid;
+
+    @Schema(title = "권한 목록", description = "토큰에 기록된 권한 목록", example = "[\"ROLE_USER\"]")
+    private final List<String> authorities;
+
+    @Schema(title = "만료 시각", description = "토큰 만료 시각 (epoch seconds)", example = "1661926800")
+    private final Long exp;
+
+    @Schema(title = "로그아웃 여부", description = "로그아웃되어 블랙리스트에 등록된 토큰인지 여부", example = "false")
+    private final boolean revoked;
+
+    /**
+     * 서명과 만료일 검증을 통과한 토큰의 결과를 만듭니다.
+     *
+     * @param token   - 검증된 토큰 정보
+     * @param revoked - 블랙리스트 등록 여부
+     * @return 유효성 확인 결과
+     */
+    public static TokenIntrospectResponse of(VerifiedToken token, boolean revoked) {
+        List<String> authorities = token.getRoles()
+                                        .stream()
+                                        .map(Roles::name)
+                                        .collect(toUnmodifiableList());
+
+        return new TokenIntrospectResponse(!revoked, token.getUuid(), authorities,
+                                           TimeUnit.MILLISECONDS.toSeconds(token.getExpiration().getTime()),
+                                           revoked);
+    }
+
+    /**
+     * 서명이나 만료일 검증에 실패한 토큰의 결과를 반환합니다.
+     *
+     * @return 유효하지 않은 토큰의 결과
+     */
+    public static TokenIntrospectResponse inactive() {
+        return INACTIVE;
+    }
+
+}
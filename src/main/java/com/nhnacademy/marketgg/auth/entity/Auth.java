@@ -158,6 +158,16 @@ public class Auth {
         return Objects.isNull(updatedPassword) || passwordEncoder.matches(updatedPassword, this.password);
     }
 
+    /**
+     * 같은 비밀번호를 현재 설정된 알고리즘과 비용으로 다시 해시한 값으로 교체합니다.
+     * 회원이 비밀번호를 바꾼 것이 아니므로 비밀번호 수정일은 그대로 둡니다.
+     *
+     * @param encodedPassword - 다시 해시한 비밀번호
+     */
+    public void upgradePassword(final String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public void updateUuid(final String uuid) {
         this.uuid = uuid;
     }
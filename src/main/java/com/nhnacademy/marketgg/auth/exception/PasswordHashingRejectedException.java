@@ -0,0 +1,29 @@
+package com.nhnacademy.marketgg.auth.exception;
+
+import com.nhnacademy.marketgg.auth.aop.advice.ExceptionMessageCode;
+
+/**
+ * 비밀번호 해시 풀과 대기열이 가득 차 요청을 처리하지 않고 거부했을 때 발생하는 예외입니다.
+ *
+ * @version 1.0.0
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private static final ExceptionMessageCode exceptionCode = ExceptionMessageCode.PASSWORD_HASHING_REJECTED;
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(long retryAfterSeconds, Throwable cause) {
+        super("Password hashing is overloaded.", cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getExceptionCode() {
+        return exceptionCode.msg;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
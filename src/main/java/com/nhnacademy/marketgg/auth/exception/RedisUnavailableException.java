@@ -0,0 +1,29 @@
+package com.nhnacademy.marketgg.auth.exception;
+
+import com.nhnacademy.marketgg.auth.aop.advice.ExceptionMessageCode;
+
+/**
+ * Redis 가 응답하지 않거나 회로 차단기가 열려 Redis 가 필요한 요청을 처리할 수 없을 때 발생하는 예외입니다.
+ *
+ * @version 1.0.0
+ */
+public class RedisUnavailableException extends RuntimeException {
+
+    private static final ExceptionMessageCode exceptionCode = ExceptionMessageCode.REDIS_UNAVAILABLE;
+
+    private final long retryAfterSeconds;
+
+    public RedisUnavailableException(long retryAfterSeconds, Throwable cause) {
+        super("Redis is unavailable.", cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getExceptionCode() {
+        return exceptionCode.msg;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -4,9 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.marketgg.auth.dto.request.LoginRequest;
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
 import com.nhnacademy.marketgg.auth.exception.InvalidLoginRequestException;
+import com.nhnacademy.marketgg.auth.exception.PasswordHashingRejectedException;
+import com.nhnacademy.marketgg.auth.exception.RedisUnavailableException;
 import com.nhnacademy.marketgg.auth.jwt.CustomUser;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.util.RateLimiter;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Objects;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -15,6 +20,7 @@ import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -36,6 +42,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final ObjectMapper mapper;
     private final TokenUtils tokenUtils;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RateLimiter rateLimiter;
 
     /**
      * JWT 인증 필터를 위한 생성자입니다.
@@ -44,16 +52,30 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * @param mapper                - (역)직렬화를 위한 매퍼
      * @param tokenUtils            - 토큰과 관련된 유틸리티 객체
      * @param redisTemplate         - Redis 데이터베이스 사용을 위한 템플릿
+     * @param redisCircuitBreaker   - Redis 호출을 감싸는 회로 차단기
+     * @param rateLimiter           - 계정별 로그인 시도 수 제한
      */
     public JwtAuthenticationFilter(AuthenticationManager authenticationManager, ObjectMapper mapper,
-                                   TokenUtils tokenUtils, RedisTemplate<String, Object> redisTemplate) {
+                                   TokenUtils tokenUtils, RedisTemplate<String, Object> redisTemplate,
+                                   RedisCircuitBreaker redisCircuitBreaker, RateLimiter rateLimiter) {
 
         super(authenticationManager);
         this.mapper = mapper;
         this.tokenUtils = tokenUtils;
         this.redisTemplate = redisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.rateLimiter = rateLimiter;
     }
 
+    /**
+     * 로그인을 시도합니다. 계정별 시도 수 제한을 넘으면 비밀번호를 확인하지 않고 429 를 응답하고,
+     * 비밀번호 해시 풀이 가득 차 있으면 기다리지 않고 503 과 Retry-After 를 응답합니다.
+     *
+     * @param request  - HTTP 서블릿 요청 객체
+     * @param response - HTTP 서블릿 응답 객체
+     * @return 인증 결과, 요청 수 제한이나 해시 풀 포화로 거부했으면 null
+     * @throws AuthenticationException 인증에 실패한 경우
+     */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
                                                 HttpServletResponse response) throws AuthenticationException {
@@ -64,10 +86,29 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
             LoginRequest loginRequest = mapper.readValue(request.getInputStream(), LoginRequest.class);
 
+            if (Objects.nonNull(loginRequest.getEmail())) {
+                long wait = rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_ACCOUNT,
+                                                   loginRequest.getEmail().toLowerCase(Locale.ROOT));
+                if (wait > 0) {
+                    log.warn("계정별 로그인 시도 수 제한을 넘었습니다.");
+                    RateLimitFilter.reject(response, wait);
+                    return null;
+                }
+            }
+
             UsernamePasswordAuthenticationToken token =
                 new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword());
 
-            Authentication authentication = getAuthenticationManager().authenticate(token);
+            Authentication authentication;
+            try {
+                authentication = getAuthenticationManager().authenticate(token);
+            } catch (PasswordHashingRejectedException e) {
+                log.warn("비밀번호 해시 풀이 가득 차 로그인 요청을 거부합니다.");
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+                return null;
+            }
+
             CustomUser principal = (CustomUser) authentication.getPrincipal();
             if (principal.isWithdraw()) {
                 response.setHeader(WWW_AUTHENTICATE, WITHDRAW);
@@ -82,6 +123,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     /**
      * 로그인이 성공했을 때 실행하는 메서드입니다. 레디스에 Refresh token 을 적절히 넣어줍니다.
+     * Redis 를 사용할 수 없으면 기다리지 않고 503 과 Retry-After 를 응답합니다.
      *
      * @param request    - HTTP 서블릿 요청 객체
      * @param response   - HTTP 서블릿 응답 객체
@@ -100,7 +142,15 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             return;
         }
 
-        TokenResponse tokenResponse = tokenUtils.saveRefreshToken(redisTemplate, authResult);
+        TokenResponse tokenResponse;
+        try {
+            tokenResponse = redisCircuitBreaker.call(() -> tokenUtils.saveRefreshToken(redisTemplate, authResult));
+        } catch (RedisUnavailableException e) {
+            log.warn("Redis 를 사용할 수 없어 로그인 세션을 저장하지 못했습니다.");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            return;
+        }
 
         response.addHeader(HttpHeaders.AUTHORIZATION, TokenUtils.BEARER + tokenResponse.getJwt());
         response.addHeader(TokenUtils.JWT_EXPIRE, tokenResponse.getExpiredDate().toString());
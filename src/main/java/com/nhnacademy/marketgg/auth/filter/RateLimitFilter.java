@@ -0,0 +1,90 @@
+package com.nhnacademy.marketgg.auth.filter;
+
+import com.nhnacademy.marketgg.auth.util.RateLimiter;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * 로그인과 인증 메일 요청을 IP 별로 제한하는 필터입니다.
+ * 비밀번호 확인이나 메일 발송보다 앞에서 실행되어, 한도를 넘은 요청은 429 와 Retry-After 로 바로 거부합니다.
+ *
+ * <p>IP 는 {@link HttpServletRequest#getRemoteAddr()} 를 사용하므로, 게이트웨이 뒤에서는
+ * {@code server.forward-headers-strategy} 로 원래 클라이언트 주소를 사용하도록 설정해야 합니다.</p>
+ *
+ * @version 1.0.0
+ * @see RateLimiter
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LOGIN_URL = "/members/login";
+    public static final String CHECK_EMAIL_URL = "/members/check/email";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return Objects.isNull(policy(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String ip = request.getRemoteAddr();
+        long wait = rateLimiter.tryAcquire(policy(request), ip);
+        if (wait > 0) {
+            log.warn("요청 수 제한을 넘었습니다. uri = {}, ip = {}", request.getRequestURI(), ip);
+            reject(response, wait);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청 수 제한을 넘은 요청에 429 와 다시 요청할 수 있을 때까지의 시간을 응답합니다.
+     *
+     * @param response - HTTP 서블릿 응답 객체
+     * @param wait     - 다시 요청할 수 있을 때까지 남은 시간 (밀리초)
+     */
+    static void reject(HttpServletResponse response, long wait) {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(
+                Math.max(TimeUnit.MILLISECONDS.toSeconds(wait + TimeUnit.SECONDS.toMillis(1) - 1), 1L)));
+    }
+
+    private static RateLimiter.Policy policy(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return null;
+        }
+
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        if (LOGIN_URL.equals(path)) {
+            return RateLimiter.Policy.LOGIN_IP;
+        }
+        if (CHECK_EMAIL_URL.equals(path)) {
+            return RateLimiter.Policy.EMAIL_IP;
+        }
+
+        return null;
+    }
+
+}
@@ -1,26 +1,46 @@
 package com.nhnacademy.marketgg.auth.jwt;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
-import com.nhnacademy.marketgg.auth.entity.Role;
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import java.util.Collection;
 import java.util.List;
-import lombok.AllArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 /**
  * UserDetailsService 에서 반환하는 UserDetails 를 상속받은 사용자 정보를 담고있는 클래스 입니다.
+ * 권한 목록은 생성할 때 한 번만 만들고 getAuthorities 호출마다 같은 목록을 반환합니다.
  */
-@AllArgsConstructor
 public class CustomUser implements UserDetails {
 
     private final String uuid;
     private final String password;
-    private final transient List<Role> authorities; // 직렬화 될 일이 없는 클래스입니다. SonarQube 위해 transient 추가
+    private final transient List<GrantedAuthority> authorities; // 직렬화 될 일이 없는 클래스입니다. SonarQube 위해 transient 추가
     private final boolean isWithdraw;
 
+    /**
+     * 생성자입니다.
+     *
+     * @param uuid       - 회원의 UUID
+     * @param password   - 비밀번호 해시
+     * @param roles      - 회원의 권한 목록
+     * @param isWithdraw - 탈퇴 여부
+     */
+    public CustomUser(String uuid, String password, Collection<Roles> roles, boolean isWithdraw) {
+        this(uuid, password, roles.stream()
+                                  .map(role -> new SimpleGrantedAuthority(role.name()))
+                                  .collect(toUnmodifiableList()), isWithdraw);
+    }
+
+    private CustomUser(String uuid, String password, List<GrantedAuthority> authorities, boolean isWithdraw) {
+        this.uuid = uuid;
+        this.password = password;
+        this.authorities = authorities;
+        this.isWithdraw = isWithdraw;
+    }
+
     /**
      * 권한 정보를 반환합니다.
      *
@@ -28,9 +48,7 @@ public class CustomUser implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return authorities.stream()
-                          .map(r -> new SimpleGrantedAuthority(r.getName().name()))
-                          .collect(toList());
+        return authorities;
     }
 
     @Override
@@ -67,5 +85,15 @@ public class CustomUser implements UserDetails {
         return this.isWithdraw;
     }
 
+    /**
+     * 비밀번호 해시만 교체한 사용자 정보를 반환합니다.
+     *
+     * @param password - 다시 해시한 비밀번호
+     * @return 새 비밀번호 해시를 가진 사용자 정보
+     */
+    public CustomUser withPassword(String password) {
+        return new CustomUser(uuid, password, authorities, isWithdraw);
+    }
+
 
 }
@@ -0,0 +1,115 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비대칭 서명 키를 JWK(RFC 7517) 형식으로 다루기 위한 유틸리티 클래스입니다.
+ *
+ * @version 1.0.0
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc7638">RFC 7638 JWK Thumbprint</a>
+ */
+public final class JsonWebKeys {
+
+    private static final String KEY_PAIR_DELIMITER = ":";
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private JsonWebKeys() {
+    }
+
+    /**
+     * Secure Manager 에 저장된 "PKCS#8 개인키:X.509 공개키" 형식(각각 Base64)의 EC 키 쌍을 읽습니다.
+     *
+     * @param secret - Base64 로 인코딩된 개인키와 공개키를 ':' 로 이어붙인 문자열
+     * @return EC 키 쌍
+     */
+    public static KeyPair parseEcKeyPair(String secret) {
+        String[] keys = secret.split(KEY_PAIR_DELIMITER);
+        if (keys.length != 2) {
+            throw new IllegalArgumentException("EC 키 쌍 형식이 올바르지 않습니다.");
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            return new KeyPair(
+                keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(keys[1]))),
+                keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(keys[0]))));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException("EC 키 쌍을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * P-256 공개키의 JWK Thumbprint 를 계산하여 kid 로 사용합니다.
+     *
+     * @param publicKey - P-256 공개키
+     * @return Base64URL 로 인코딩된 SHA-256 Thumbprint
+     */
+    public static String thumbprint(ECPublicKey publicKey) {
+        String canonical = "{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"" + x(publicKey)
+            + "\",\"y\":\"" + y(publicKey) + "\"}";
+
+        try {
+            return BASE64URL.encodeToString(MessageDigest.getInstance("SHA-256")
+                                                         .digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ES256 서명 검증용 공개키를 JWK 로 변환합니다.
+     *
+     * @param publicKey - P-256 공개키
+     * @param kid       - 키 식별자
+     * @return JWK 멤버를 담은 Map
+     */
+    public static Map<String, Object> toEcPublicJwk(ECPublicKey publicKey, String kid) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("x", x(publicKey));
+        jwk.put("y", y(publicKey));
+        jwk.put("kid", kid);
+        jwk.put("alg", "ES256");
+        jwk.put("use", "sig");
+
+        return jwk;
+    }
+
+    private static String x(ECPublicKey publicKey) {
+        return encodeCoordinate(publicKey.getW().getAffineX());
+    }
+
+    private static String y(ECPublicKey publicKey) {
+        return encodeCoordinate(publicKey.getW().getAffineY());
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        if (bytes.length > P256_COORDINATE_LENGTH) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - P256_COORDINATE_LENGTH, bytes.length);
+        } else if (bytes.length < P256_COORDINATE_LENGTH) {
+            byte[] padded = new byte[P256_COORDINATE_LENGTH];
+            System.arraycopy(bytes, 0, padded, P256_COORDINATE_LENGTH - bytes.length, bytes.length);
+            bytes = padded;
+        }
+
+        return BASE64URL.encodeToString(bytes);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * JWT 원문을 짧은 식별자로 바꾸는 유틸리티 클래스입니다.
+ *
+ * @version 1.0.0
+ */
+final class JwtDigests {
+
+    private static final int DIGEST_LENGTH = 16;
+
+    private JwtDigests() {
+    }
+
+    /**
+     * JWT 원문의 SHA-256 다이제스트 앞 16 바이트를 Base64URL 로 인코딩합니다.
+     *
+     * @param jwt - JWT 원문
+     * @return 22 자의 다이제스트 문자열
+     */
+    static String digest(String jwt) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                                       .digest(jwt.getBytes(StandardCharsets.US_ASCII));
+
+            return Base64.getUrlEncoder()
+                         .withoutPadding()
+                         .encodeToString(Arrays.copyOf(hash, DIGEST_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
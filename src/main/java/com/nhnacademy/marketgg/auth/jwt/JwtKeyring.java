@@ -0,0 +1,139 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+
+/**
+ * JWT 서명 키 하나와 검증 키 여러 개를 kid 별로 묶은 불변 키링입니다.
+ * Secure Manager 의 비밀 값에 쉼표로 구분된 여러 키를 저장하며, 첫 번째 키로 서명하고 나머지 키는 검증에만 사용합니다.
+ * 키를 교체할 때 이전 키를 뒤에 남겨두면 이미 발급된 토큰도 만료될 때까지 검증됩니다.
+ *
+ * @version 1.0.0
+ * @see JwtKeyringProvider
+ */
+@Getter
+public final class JwtKeyring {
+
+    private static final String KEY_DELIMITER = ",";
+    private static final int HMAC_KID_LENGTH = 8;
+
+    private final String signingKeyId;
+    private final Key signingKey;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final Map<String, Key> verificationKeys;
+    private final List<Map<String, Object>> publicJwks;
+
+    private JwtKeyring(String signingKeyId, Key signingKey, SignatureAlgorithm signatureAlgorithm,
+                       Map<String, Key> verificationKeys, List<Map<String, Object>> publicJwks) {
+
+        this.signingKeyId = signingKeyId;
+        this.signingKey = signingKey;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.verificationKeys = Collections.unmodifiableMap(verificationKeys);
+        this.publicJwks = Collections.unmodifiableList(publicJwks);
+    }
+
+    /**
+     * Base64URL 로 인코딩된 HMAC 키 목록으로 키링을 만듭니다.
+     *
+     * @param secret - 쉼표로 구분된 HMAC 키 목록, 첫 번째 키가 서명 키입니다.
+     * @return HMAC 키링
+     */
+    static JwtKeyring hmac(String secret) {
+        Map<String, Key> verificationKeys = new LinkedHashMap<>();
+        for (String encoded : split(secret)) {
+            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(encoded));
+            verificationKeys.putIfAbsent(hmacKeyId(key), key);
+        }
+
+        Map.Entry<String, Key> signing = verificationKeys.entrySet().iterator().next();
+
+        return new JwtKeyring(signing.getKey(), signing.getValue(),
+                              SignatureAlgorithm.forSigningKey(signing.getValue()),
+                              verificationKeys, Collections.emptyList());
+    }
+
+    /**
+     * "PKCS#8 개인키:X.509 공개키" 형식의 EC 키 쌍 목록으로 ES256 키링을 만듭니다.
+     *
+     * @param secret - 쉼표로 구분된 EC 키 쌍 목록, 첫 번째 키 쌍이 서명 키입니다.
+     * @return ES256 키링
+     */
+    static JwtKeyring ec(String secret) {
+        Map<String, Key> verificationKeys = new LinkedHashMap<>();
+        List<Map<String, Object>> publicJwks = new ArrayList<>();
+        String signingKeyId = null;
+        Key signingKey = null;
+
+        for (String encoded : split(secret)) {
+            KeyPair keyPair = JsonWebKeys.parseEcKeyPair(encoded);
+            ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+            String kid = JsonWebKeys.thumbprint(publicKey);
+
+            if (Objects.isNull(signingKey)) {
+                signingKeyId = kid;
+                signingKey = keyPair.getPrivate();
+            }
+            if (Objects.isNull(verificationKeys.putIfAbsent(kid, publicKey))) {
+                publicJwks.add(JsonWebKeys.toEcPublicJwk(publicKey, kid));
+            }
+        }
+
+        return new JwtKeyring(signingKeyId, signingKey, SignatureAlgorithm.ES256, verificationKeys, publicJwks);
+    }
+
+    /**
+     * JWT 헤더의 kid 에 해당하는 검증 키를 찾습니다.
+     * kid 가 없는 토큰은 키링 도입 전에 발급된 토큰이므로 현재 서명 키로 검증합니다.
+     *
+     * @param kid - JWT 헤더의 kid
+     * @return 검증 키, 키링에 없는 kid 이면 null
+     */
+    public Key getVerificationKey(String kid) {
+        return verificationKeys.get(Objects.isNull(kid) ? signingKeyId : kid);
+    }
+
+    private static List<String> split(String secret) {
+        List<String> keys = new ArrayList<>();
+        for (String key : secret.split(KEY_DELIMITER)) {
+            if (!key.isBlank()) {
+                keys.add(key.trim());
+            }
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("JWT 서명 키가 없습니다.");
+        }
+
+        return keys;
+    }
+
+    private static String hmacKeyId(SecretKey key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+
+            return Base64.getUrlEncoder()
+                         .withoutPadding()
+                         .encodeToString(Arrays.copyOf(hash, HMAC_KID_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
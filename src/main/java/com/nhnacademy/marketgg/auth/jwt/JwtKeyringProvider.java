@@ -0,0 +1,106 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Secure Manager 에서 JWT 키링을 읽어오고 주기적으로 갱신하는 클래스입니다.
+ * 갱신은 스케줄러 스레드에서만 수행하고, 요청 스레드는 volatile 로 공개된 키링을 읽기만 하므로 막히지 않습니다.
+ * 키 교체 시 재시작이 필요 없고, 이전 키를 키링에 남겨두면 발급된 토큰도 계속 검증됩니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class JwtKeyringProvider {
+
+    private static final String ES256 = "ES256";
+
+    private final RestTemplate restTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final boolean ec;
+    private final String keyringUrl;
+
+    private volatile JwtKeyring keyring;
+
+    /**
+     * 생성자입니다. 시작 시점에 키링을 한 번 읽어옵니다.
+     *
+     * @param restTemplate       - Secure Manager 에 요청하기 위한 RestTemplate
+     * @param secretUrl          - HMAC 키 목록을 요청하는 URL
+     * @param algorithm          - 서명 알고리즘 (HS256, ES256)
+     * @param keyPairUrl         - ES256 서명에 사용할 EC 키 쌍 목록을 요청하는 URL
+     * @param verifiedTokenCache - 서명 검증을 마친 토큰을 보관하는 캐시
+     */
+    public JwtKeyringProvider(@Qualifier("clientCertificateAuthenticationRestTemplate") RestTemplate restTemplate,
+                              @Value("${gg.jwt.secret-url}") String secretUrl,
+                              @Value("${gg.jwt.algorithm:HS256}") String algorithm,
+                              @Value("${gg.jwt.key-pair-url:}") String keyPairUrl,
+                              VerifiedTokenCache verifiedTokenCache) {
+
+        this.restTemplate = restTemplate;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.ec = ES256.equalsIgnoreCase(algorithm);
+        this.keyringUrl = ec ? keyPairUrl : secretUrl;
+        this.keyring = load();
+    }
+
+    /**
+     * 현재 키링을 반환합니다.
+     *
+     * @return JWT 키링
+     */
+    public JwtKeyring getKeyring() {
+        return keyring;
+    }
+
+    /**
+     * Secure Manager 에서 키링을 다시 읽어옵니다.
+     * 실패하면 기존 키링을 그대로 사용하고, 검증 키가 제거되었으면 해당 키로 검증한 캐시를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${gg.jwt.keyring.refresh-interval:300000}",
+               initialDelayString = "${gg.jwt.keyring.refresh-interval:300000}")
+    public void refresh() {
+        try {
+            JwtKeyring previous = keyring;
+            JwtKeyring loaded = load();
+            keyring = loaded;
+
+            if (!loaded.getVerificationKeys().keySet().containsAll(previous.getVerificationKeys().keySet())) {
+                verifiedTokenCache.invalidateAll();
+            }
+            if (!loaded.getSigningKeyId().equals(previous.getSigningKeyId())) {
+                log.info("JWT 서명 키가 교체되었습니다. kid = {}", loaded.getSigningKeyId());
+            }
+        } catch (RuntimeException e) {
+            log.error("JWT 키링 갱신에 실패하여 기존 키링을 유지합니다.", e);
+        }
+    }
+
+    private JwtKeyring load() {
+        String secret = getSecret(keyringUrl);
+
+        return ec ? JwtKeyring.ec(secret) : JwtKeyring.hmac(secret);
+    }
+
+    private String getSecret(String secretUrl) {
+        ResponseEntity<Map<String, Map<String, String>>> response =
+                restTemplate.exchange(secretUrl, HttpMethod.GET, null, new ParameterizedTypeReference<>() {
+                });
+
+        return Optional.ofNullable(response.getBody())
+                       .orElseThrow(IllegalArgumentException::new)
+                       .get("body")
+                       .get("secret");
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 발생한 토큰 폐기를 Redis pub/sub 으로 전달받아 로컬 폐기 정보에 바로 반영하는 클래스입니다.
+ *
+ * <p>메시지는 토큰 폐기 {@code t:{tokenId}} 와 회원 전체 세션 폐기 {@code e:{epoch}:{uuid}} 두 가지입니다.
+ * pub/sub 은 구독이 끊긴 동안의 메시지를 보존하지 않으므로, 채널을 (재)구독할 때마다 Redis 에서 전체를 다시 동기화합니다.</p>
+ *
+ * @version 1.0.0
+ * @see RevokedTokenRegistry
+ * @see TokenEpochRegistry
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevocationListener implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "revocation";
+
+    private static final String TOKEN_PREFIX = "t:";
+    private static final String EPOCH_PREFIX = "e:";
+    private static final char SEPARATOR = ':';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    /**
+     * 토큰 폐기 메시지를 만듭니다.
+     *
+     * @param tokenId - 폐기된 토큰의 ID
+     * @return 채널에 발행할 메시지
+     */
+    static String tokenMessage(String tokenId) {
+        return TOKEN_PREFIX + tokenId;
+    }
+
+    /**
+     * 회원 전체 세션 폐기 메시지를 만듭니다.
+     *
+     * @param uuid  - 회원의 UUID
+     * @param epoch - 새 epoch (초)
+     * @return 채널에 발행할 메시지
+     */
+    static String epochMessage(String uuid, long epoch) {
+        return EPOCH_PREFIX + epoch + SEPARATOR + uuid;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object deserialized = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (Objects.isNull(deserialized)) {
+            return;
+        }
+
+        String body = String.valueOf(deserialized);
+        try {
+            if (body.startsWith(TOKEN_PREFIX)) {
+                revokedTokenRegistry.markRevoked(body.substring(TOKEN_PREFIX.length()));
+            } else if (body.startsWith(EPOCH_PREFIX)) {
+                int separator = body.indexOf(SEPARATOR, EPOCH_PREFIX.length());
+                long epoch = Long.parseLong(body.substring(EPOCH_PREFIX.length(), separator));
+                tokenEpochRegistry.apply(body.substring(separator + 1), epoch);
+            } else {
+                log.warn("알 수 없는 토큰 폐기 메시지입니다. message = {}", body);
+            }
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 메시지 처리에 실패하여 전체 동기화합니다. message = {}", body, e);
+            resync();
+        }
+    }
+
+    /**
+     * 채널을 처음 구독하거나 연결이 끊긴 뒤 다시 구독하면, 그 사이 놓친 메시지를 대신하여 전체를 다시 동기화합니다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        log.info("토큰 폐기 채널을 구독하여 전체 동기화합니다.");
+        resync();
+    }
+
+    private void resync() {
+        tokenEpochRegistry.invalidateAll();
+        revokedTokenRegistry.refresh();
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import com.nhnacademy.marketgg.auth.exception.RedisUnavailableException;
+import com.nhnacademy.marketgg.auth.util.BloomFilter;
+import com.nhnacademy.marketgg.auth.util.ExpiringKeyStore;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃한 JWT 의 블랙리스트를 관리하고 검증 경로에서 확인하는 클래스입니다.
+ * 블랙리스트는 JWT 원문 대신 jti 만 Redis 에 저장하고, 로컬 Bloom filter 를 앞에 두어 대부분의 요청은 Redis 를 조회하지 않습니다.
+ * Bloom filter 에 걸린 토큰만 Redis 에서 실제 등록 여부를 확인합니다.
+ *
+ * <p>다른 인스턴스에서 로그아웃한 토큰은 {@link RevocationListener} 로 전달받아 바로 Bloom filter 에 반영하고,
+ * 메시지를 놓친 경우에도 다음 갱신 주기에 반영됩니다.</p>
+ *
+ * <p>회원의 모든 세션 종료는 토큰을 하나씩 등록하지 않고 {@link TokenEpochRegistry} 의 epoch 로 처리합니다.</p>
+ *
+ * <p>등록은 master 에 쓰고 확인은 복제본에서 읽습니다. 다른 인스턴스에는 메시지로 먼저 전달되므로,
+ * 복제 지연은 Bloom filter 에 걸린 토큰의 Redis 확인에만 영향을 줍니다.</p>
+ *
+ * <p>Redis 를 사용할 수 없는 동안 등록한 토큰은 로컬에 보관해두었다가 Redis 가 복구되면 다시 등록하고,
+ * Bloom filter 에 걸린 토큰은 Redis 로 확인할 수 없으므로 폐기된 것으로 간주합니다.
+ * 로그아웃하며 삭제하지 못한 세션도 세션이 만료될 때까지 로컬에 보관해두었다가 Redis 가 복구되면 삭제합니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+
+    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String BLACKLIST_INDEX = "blacklist:index";
+    private static final char SESSION_SEPARATOR = ':';
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> replicaRedisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final TokenUtils tokenUtils;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final long expectedInsertions;
+
+    private final Queue<String> localRevocations = new ConcurrentLinkedQueue<>();
+    private final ExpiringKeyStore pendingRevocations;
+    private final ExpiringKeyStore pendingSessionDeletes;
+
+    private volatile BloomFilter filter;
+
+    /**
+     * 생성자입니다. 시작 시점에 Redis 의 블랙리스트로 Bloom filter 를 만듭니다.
+     *
+     * @param redisTemplate        - 블랙리스트를 저장하는 Redis
+     * @param replicaRedisTemplate - 블랙리스트를 조회하는 Redis 복제본
+     * @param verifiedTokenCache   - 서명 검증을 마친 토큰을 보관하는 캐시
+     * @param tokenEpochRegistry   - 회원별 토큰 epoch
+     * @param tokenUtils           - 세션을 삭제할 토큰 유틸
+     * @param redisCircuitBreaker  - Redis 호출을 감싸는 회로 차단기
+     * @param expectedInsertions   - Bloom filter 에 담을 것으로 예상되는 토큰 수
+     * @param fallbackMaximumSize  - Redis 장애 동안 로컬에 보관할 최대 폐기 토큰 수
+     */
+    public RevokedTokenRegistry(RedisTemplate<String, Object> redisTemplate,
+                                @Qualifier("replicaRedisTemplate")
+                                RedisTemplate<String, Object> replicaRedisTemplate,
+                                VerifiedTokenCache verifiedTokenCache,
+                                TokenEpochRegistry tokenEpochRegistry,
+                                TokenUtils tokenUtils,
+                                RedisCircuitBreaker redisCircuitBreaker,
+                                @Value("${gg.jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${gg.redis.fallback.maximum-size:10000}") long fallbackMaximumSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.tokenUtils = tokenUtils;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.expectedInsertions = expectedInsertions;
+        this.pendingRevocations = new ExpiringKeyStore(fallbackMaximumSize);
+        this.pendingSessionDeletes = new ExpiringKeyStore(fallbackMaximumSize);
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        this.refresh();
+    }
+
+    /**
+     * 토큰을 남은 유효기간 동안 블랙리스트에 등록합니다.
+     * Redis 를 사용할 수 없으면 로컬에 보관해두고 Redis 가 복구된 뒤 다음 갱신 주기에 등록합니다.
+     *
+     * @param token - 로그아웃한 토큰 정보
+     */
+    public void revoke(VerifiedToken token) {
+        verifiedTokenCache.invalidate(token.getJwt());
+
+        long expireAt = token.getExpiration().getTime();
+        long ttl = expireAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+
+        String tokenId = token.getTokenId();
+        markRevoked(tokenId);
+
+        try {
+            redisCircuitBreaker.run(() -> this.register(tokenId, expireAt));
+        } catch (RedisUnavailableException e) {
+            log.warn("Redis 를 사용할 수 없어 폐기한 토큰을 로컬에 보관합니다. tokenId = {}", tokenId);
+            pendingRevocations.put(tokenId, expireAt);
+        }
+    }
+
+    /**
+     * Redis 를 사용할 수 없어 삭제하지 못한 세션을 세션이 만료될 때까지 로컬에 보관하고, Redis 가 복구된 뒤 다음 갱신 주기에 삭제합니다.
+     * 로그아웃한 토큰의 블랙리스트는 토큰이 만료되면 사라지므로, 세션이 남아 있으면 만료된 토큰으로 재발급받을 수 있습니다.
+     * 보관하는 동안 세션에 속한 토큰은 폐기된 것으로 간주합니다.
+     *
+     * @param token - 로그아웃한 토큰 정보
+     */
+    public void deleteSessionLater(VerifiedToken token) {
+        if (Objects.isNull(token.getSessionId())) {
+            return;
+        }
+
+        log.warn("Redis 를 사용할 수 없어 삭제하지 못한 세션을 로컬에 보관합니다. sessionId = {}", token.getSessionId());
+        pendingSessionDeletes.put(sessionKey(token), tokenUtils.getSessionExpiration(token));
+    }
+
+    private void register(String tokenId, long expireAt) {
+        long ttl = expireAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, true, ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX, tokenId, expireAt);
+        redisTemplate.convertAndSend(RevocationListener.CHANNEL, RevocationListener.tokenMessage(tokenId));
+    }
+
+    /**
+     * 이 인스턴스나 다른 인스턴스에서 블랙리스트에 등록한 토큰을 Bloom filter 에 추가합니다.
+     * 갱신 도중 추가된 토큰도 새 filter 에 반영되도록 기록해둡니다.
+     *
+     * @param tokenId - 블랙리스트에 등록된 토큰의 ID
+     */
+    void markRevoked(String tokenId) {
+        localRevocations.add(tokenId);
+        filter.put(tokenId);
+    }
+
+    /**
+     * 회원에게 발급된 모든 토큰을 폐기합니다.
+     *
+     * @param uuid - 회원의 UUID
+     */
+    public void revokeAll(String uuid) {
+        tokenEpochRegistry.revokeAll(uuid);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다.
+     * 회원의 epoch 이전에 발급되었거나, 삭제를 기다리는 세션에 속하거나, 블랙리스트에 등록된 토큰이 폐기된 토큰입니다.
+     * Bloom filter 에 없으면 블랙리스트는 Redis 를 조회하지 않습니다.
+     * Bloom filter 에 걸렸지만 Redis 를 사용할 수 없으면 폐기된 토큰으로 간주합니다.
+     *
+     * @param token - 검증된 토큰 정보
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (tokenEpochRegistry.isStale(token)) {
+            return true;
+        }
+
+        if (Objects.nonNull(token.getSessionId()) && pendingSessionDeletes.contains(sessionKey(token))) {
+            return true;
+        }
+
+        String tokenId = token.getTokenId();
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+
+        if (pendingRevocations.contains(tokenId)) {
+            return true;
+        }
+
+        return redisCircuitBreaker.call(
+                () -> Boolean.TRUE.equals(replicaRedisTemplate.hasKey(BLACKLIST_PREFIX + tokenId)),
+                () -> true);
+    }
+
+    /**
+     * 여러 토큰의 폐기 여부를 확인합니다.
+     * Bloom filter 에 걸린 토큰만 MGET 한 번으로 Redis 에서 확인합니다.
+     *
+     * @param tokens - 검증된 토큰 정보 목록
+     * @return 폐기된 JWT 목록
+     */
+    public Set<String> findRevoked(List<VerifiedToken> tokens) {
+        Set<String> revoked = new HashSet<>(tokenEpochRegistry.findStale(tokens));
+
+        BloomFilter current = filter;
+        List<VerifiedToken> candidates = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (VerifiedToken token : tokens) {
+            String tokenId = token.getTokenId();
+            if (!current.mightContain(tokenId)) {
+                continue;
+            }
+
+            if (pendingRevocations.contains(tokenId)) {
+                revoked.add(token.getJwt());
+            } else {
+                candidates.add(token);
+                keys.add(BLACKLIST_PREFIX + tokenId);
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return revoked;
+        }
+
+        List<Object> values = redisCircuitBreaker.call(() -> replicaRedisTemplate.opsForValue().multiGet(keys),
+                                                       () -> Collections.nCopies(keys.size(), true));
+        if (Objects.isNull(values)) {
+            return revoked;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (Objects.nonNull(values.get(i))) {
+                revoked.add(candidates.get(i).getJwt());
+            }
+        }
+
+        return revoked;
+    }
+
+    /**
+     * Redis 의 블랙리스트 색인으로 Bloom filter 를 다시 만듭니다.
+     * 만료된 항목은 색인에서 제거하므로 Bloom filter 가 계속 커지지 않습니다.
+     * 복제 지연으로 방금 폐기한 토큰이 빠지지 않도록 색인은 primary 에서 읽고,
+     * 이번 갱신에서 비운 로컬 기록도 색인에 아직 반영되지 않았을 수 있으므로 새 filter 에 함께 추가합니다.
+     * 갱신 도중 이 인스턴스에서 등록한 토큰은 새 filter 를 공개하기 전에 모두 추가하고,
+     * 공개 직전에 이전 filter 에 추가된 토큰은 공개한 뒤 한 번 더 추가하여 누락되지 않도록 합니다.
+     * Redis 장애 동안 로컬에 보관한 토큰은 먼저 Redis 에 등록하고, 보관한 세션은 삭제합니다.
+     * 스케줄러와 {@link RevocationListener} 가 동시에 호출할 수 있으므로 한 번에 하나의 갱신만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${gg.jwt.revocation.refresh-interval:10000}",
+               initialDelayString = "${gg.jwt.revocation.refresh-interval:10000}")
+    public synchronized void refresh() {
+        try {
+            List<String> drained = new ArrayList<>();
+            for (int i = localRevocations.size(); i > 0; i--) {
+                drained.add(localRevocations.poll());
+            }
+
+            this.registerPendingRevocations();
+
+            redisCircuitBreaker.run(() -> redisTemplate.opsForZSet()
+                                                       .removeRangeByScore(BLACKLIST_INDEX, 0,
+                                                                           System.currentTimeMillis()));
+            Set<Object> tokenIds =
+                    redisCircuitBreaker.call(() -> redisTemplate.opsForZSet().range(BLACKLIST_INDEX, 0, -1));
+            if (Objects.isNull(tokenIds)) {
+                tokenIds = Collections.emptySet();
+            }
+
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, tokenIds.size() * 2L),
+                                               FALSE_POSITIVE_RATE);
+            for (Object tokenId : tokenIds) {
+                next.put(String.valueOf(tokenId));
+            }
+
+            drained.forEach(next::put);
+            localRevocations.forEach(next::put);
+            pendingRevocations.asMap().keySet().forEach(next::put);
+
+            filter = next;
+            localRevocations.forEach(next::put);
+        } catch (RedisUnavailableException e) {
+            log.warn("Redis 를 사용할 수 없어 블랙리스트 Bloom filter 를 갱신하지 않고 기존 filter 를 유지합니다.");
+        } catch (RuntimeException e) {
+            log.error("블랙리스트 Bloom filter 갱신에 실패하여 기존 filter 를 유지합니다.", e);
+        }
+    }
+
+    private void registerPendingRevocations() {
+        for (Map.Entry<String, Long> pending : pendingRevocations.asMap().entrySet()) {
+            redisCircuitBreaker.run(() -> this.register(pending.getKey(), pending.getValue()));
+            pendingRevocations.remove(pending.getKey());
+        }
+
+        for (String session : pendingSessionDeletes.asMap().keySet()) {
+            int separator = session.indexOf(SESSION_SEPARATOR);
+            redisCircuitBreaker.run(() -> tokenUtils.deleteRefreshToken(redisTemplate, session.substring(0, separator),
+                                                                        session.substring(separator + 1)));
+            pendingSessionDeletes.remove(session);
+        }
+    }
+
+    private static String sessionKey(VerifiedToken token) {
+        return token.getUuid() + SESSION_SEPARATOR + token.getSessionId();
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nhnacademy.marketgg.auth.exception.RedisUnavailableException;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 토큰 epoch 를 관리하는 클래스입니다.
+ * epoch 이전에 발급된(iat &lt;= epoch) 토큰은 모두 폐기된 것으로 간주하므로,
+ * 발급된 토큰을 하나씩 추적하지 않고 Redis 쓰기 한 번으로 회원의 모든 세션을 종료할 수 있습니다.
+ *
+ * <p>epoch 는 초 단위이며 Redis 에 {@code epoch:{uuid}} 로 리프레시 토큰 유효기간 동안 저장합니다.
+ * 조회한 epoch 는 로컬 캐시에 보관하고, 다른 인스턴스에서 변경한 epoch 는 {@link RevocationListener} 로 전달받아 바로 반영합니다.
+ * 캐시 만료 시간은 메시지를 놓친 경우에 epoch 가 늦게 반영될 수 있는 최대 시간입니다.
+ * epoch 쓰기는 master 로, 캐시에 없는 epoch 조회는 복제본으로 보냅니다.</p>
+ *
+ * <p>Redis 를 사용할 수 없는 동안에는 로컬에 알려진 epoch 만으로 판단합니다.
+ * epoch 를 올리는 것은 회원 정보 변경이나 탈퇴처럼 드문 작업이므로, 모든 토큰을 거부하는 대신 이 짧은 공백을 허용합니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TokenEpochRegistry implements MeterBinder {
+
+    private static final String EPOCH_PREFIX = "epoch:";
+    private static final String CACHE_NAME = "tokenEpoch";
+    private static final long NO_EPOCH = 0L;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> replicaRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final long refreshExpireTime;
+    private final LoadingCache<String, Long> epochs;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param redisTemplate        - epoch 를 저장하는 Redis
+     * @param replicaRedisTemplate - epoch 를 조회하는 Redis 복제본
+     * @param redisCircuitBreaker  - Redis 호출을 감싸는 회로 차단기
+     * @param refreshExpireTime    - 리프레시 토큰 유효기간, epoch 는 이 기간이 지나면 필요 없으므로 함께 만료됩니다.
+     * @param cacheTtl             - 조회한 epoch 를 로컬에 보관하는 시간 (밀리초)
+     * @param maximumSize          - 로컬에 보관할 최대 회원 수
+     */
+    public TokenEpochRegistry(RedisTemplate<String, Object> redisTemplate,
+                              @Qualifier("replicaRedisTemplate") RedisTemplate<String, Object> replicaRedisTemplate,
+                              RedisCircuitBreaker redisCircuitBreaker,
+                              @Value("${gg.jwt.refresh-expire-time}") long refreshExpireTime,
+                              @Value("${gg.jwt.epoch.cache-ttl:10000}") long cacheTtl,
+                              @Value("${gg.jwt.epoch.cache-maximum-size:100000}") long maximumSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.refreshExpireTime = refreshExpireTime;
+        this.epochs = Caffeine.newBuilder()
+                              .maximumSize(maximumSize)
+                              .expireAfterWrite(cacheTtl, TimeUnit.MILLISECONDS)
+                              .recordStats()
+                              .build(new EpochLoader());
+    }
+
+    /**
+     * 회원의 epoch 를 현재 시각으로 올려, 지금까지 발급된 회원의 모든 토큰을 폐기합니다.
+     * 다른 인스턴스에 알리지 못하면 각 인스턴스의 캐시가 만료된 뒤에 반영됩니다.
+     *
+     * @param uuid - 회원의 UUID
+     * @throws RedisUnavailableException Redis 를 사용할 수 없어 epoch 를 저장하지 못한 경우
+     */
+    public void revokeAll(String uuid) {
+        long epoch = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+
+        redisCircuitBreaker.run(() -> redisTemplate.opsForValue()
+                                                   .set(EPOCH_PREFIX + uuid, String.valueOf(epoch),
+                                                        refreshExpireTime, TimeUnit.MILLISECONDS));
+        apply(uuid, epoch);
+        redisCircuitBreaker.run(
+                () -> redisTemplate.convertAndSend(RevocationListener.CHANNEL,
+                                                   RevocationListener.epochMessage(uuid, epoch)),
+                () -> log.warn("Redis 를 사용할 수 없어 epoch 변경을 다른 인스턴스에 알리지 못했습니다. uuid = {}", uuid));
+    }
+
+    /**
+     * 이 인스턴스나 다른 인스턴스에서 변경한 epoch 를 로컬 캐시에 반영합니다. epoch 는 줄어들지 않습니다.
+     *
+     * @param uuid  - 회원의 UUID
+     * @param epoch - 새 epoch (초)
+     */
+    void apply(String uuid, long epoch) {
+        epochs.asMap().merge(uuid, epoch, Math::max);
+    }
+
+    /**
+     * 회원의 epoch 이전에 발급된 토큰인지 확인합니다.
+     *
+     * @param token - 검증된 토큰 정보
+     * @return epoch 이전에 발급된 토큰이면 true
+     */
+    public boolean isStale(VerifiedToken token) {
+        Long epoch;
+        try {
+            epoch = epochs.get(token.getUuid());
+        } catch (RedisUnavailableException e) {
+            epoch = epochs.getIfPresent(token.getUuid());
+        }
+
+        return isStale(token, epoch);
+    }
+
+    /**
+     * 여러 토큰 중 회원의 epoch 이전에 발급된 토큰을 찾습니다.
+     * 로컬 캐시에 없는 회원의 epoch 는 MGET 한 번으로 조회합니다.
+     *
+     * @param tokens - 검증된 토큰 정보 목록
+     * @return epoch 이전에 발급된 JWT 목록
+     */
+    public Set<String> findStale(Collection<VerifiedToken> tokens) {
+        List<String> uuids = new ArrayList<>(tokens.size());
+        for (VerifiedToken token : tokens) {
+            uuids.add(token.getUuid());
+        }
+
+        Map<String, Long> loaded;
+        try {
+            loaded = epochs.getAll(uuids);
+        } catch (RedisUnavailableException e) {
+            loaded = epochs.getAllPresent(uuids);
+        }
+
+        Set<String> stale = new HashSet<>();
+        for (VerifiedToken token : tokens) {
+            if (isStale(token, loaded.get(token.getUuid()))) {
+                stale.add(token.getJwt());
+            }
+        }
+
+        return stale;
+    }
+
+    /**
+     * 폐기 메시지를 놓쳤을 수 있는 경우 로컬 캐시를 비워 Redis 에서 다시 읽도록 합니다.
+     */
+    void invalidateAll() {
+        epochs.invalidateAll();
+    }
+
+    /**
+     * 로컬 캐시 적중률 등의 통계를 actuator 메트릭으로 등록합니다.
+     *
+     * @param registry - 메트릭을 등록할 MeterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, epochs, CACHE_NAME);
+    }
+
+    private static boolean isStale(VerifiedToken token, Long epoch) {
+        if (Objects.isNull(epoch) || epoch == NO_EPOCH || Objects.isNull(token.getIssuedAt())) {
+            return false;
+        }
+
+        return TimeUnit.MILLISECONDS.toSeconds(token.getIssuedAt().getTime()) <= epoch;
+    }
+
+    /**
+     * Redis 에서 epoch 를 읽어옵니다. epoch 가 없는 회원도 캐시하여 매 요청 Redis 를 조회하지 않도록 합니다.
+     */
+    private class EpochLoader implements CacheLoader<String, Long> {
+
+        @Override
+        public Long load(String uuid) {
+            return toEpoch(redisCircuitBreaker.call(() -> replicaRedisTemplate.opsForValue().get(EPOCH_PREFIX + uuid)));
+        }
+
+        @Override
+        public Map<String, Long> loadAll(Iterable<? extends String> uuids) {
+            List<String> keyUuids = new ArrayList<>();
+            uuids.forEach(keyUuids::add);
+            List<String> keys = new ArrayList<>(keyUuids.size());
+            for (String uuid : keyUuids) {
+                keys.add(EPOCH_PREFIX + uuid);
+            }
+
+            List<Object> values = redisCircuitBreaker.call(() -> replicaRedisTemplate.opsForValue().multiGet(keys));
+
+            Map<String, Long> loaded = new HashMap<>();
+            for (int i = 0; i < keyUuids.size(); i++) {
+                loaded.put(keyUuids.get(i), toEpoch(Objects.isNull(values) ? null : values.get(i)));
+            }
+
+            return loaded;
+        }
+
+        private Long toEpoch(Object value) {
+            return Objects.isNull(value) ? NO_EPOCH : Long.parseLong(String.valueOf(value));
+        }
+
+    }
+
+}
@@ -2,37 +2,47 @@ package com.nhnacademy.marketgg.auth.jwt;
 
 import static java.util.stream.Collectors.toList;
 
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.DecodingException;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.security.InvalidKeyException;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.ServiceLoader;
+import java.util.Set;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * JWT 토큰을 생성하고 필요한 정보를 제공하는 클래스입니다.
@@ -45,14 +55,28 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class TokenUtils {
 
-    public static final String REFRESH_TOKEN = "REFRESH_TOKEN";
     public static final String JWT_EXPIRE = "JWT-Expire";
     public static final String BEARER = "Bearer ";
     private static final String AUTHORITIES = "AUTHORITIES";
+    private static final String ROLES = "rol";
+    private static final String SESSION_ID = "sid";
+    private static final String SESSIONS_PREFIX = "sessions:";
+    private static final int JTI_BYTES = 12;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
     public static final int BEARER_LENGTH = 7;
-
-    private final RestTemplate restTemplate;
-    private final Key key;
+    private static final RedisScript<Long> SAVE_SESSION_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/save-session.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/rotate-refresh-token.lua"), Long.class);
+
+    private final JwtKeyringProvider keyringProvider;
+    private final Serializer<Map<String, ?>> serializer;
+    private final JwtParser jwtParser;
+    private final boolean compactClaims;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final int maxSessions;
 
     @Getter
     private final long tokenExpirationDate;
@@ -62,18 +86,30 @@ public class TokenUtils {
 
     /**
      * 생성자입니다.
+     * JSON 직렬화 객체와 JwtParser 는 thread-safe 하므로 한 번만 생성하여 재사용합니다.
+     * JwtParser 는 JWT 헤더의 kid 로 키링에서 검증 키를 찾으므로 키가 교체되어도 다시 만들 필요가 없습니다.
      *
-     * @param secretUrl                  - JWT Secret 키를 요청하는 URL
+     * @param keyringProvider            - 서명 키와 검증 키를 제공하는 키링
      * @param tokenExpirationDate        - JWT 의 유효기간
      * @param refreshTokenExpirationDate - Refresh Token 의 유효기간
-     * @param restTemplate               - restTemplate 스프링 빈을 주입받습니다.
+     * @param compactClaims              - 권한을 비트마스크(rol)로 기록할지 여부, false 이면 기존 AUTHORITIES 배열로 기록합니다.
+     * @param maxSessions                - 회원당 최대 세션(기기) 수, 넘으면 가장 오래된 세션부터 종료합니다.
+     * @param verifiedTokenCache         - 서명 검증을 마친 토큰을 보관하는 캐시
      */
-    public TokenUtils(@Qualifier("clientCertificateAuthenticationRestTemplate") RestTemplate restTemplate,
-                      @Value("${gg.jwt.secret-url}") String secretUrl,
+    public TokenUtils(JwtKeyringProvider keyringProvider,
                       @Value("${gg.jwt.expire-time}") long tokenExpirationDate,
-                      @Value("${gg.jwt.refresh-expire-time}") long refreshTokenExpirationDate) {
-        this.restTemplate = restTemplate;
-        this.key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(this.getJwtSecret(secretUrl)));
+                      @Value("${gg.jwt.refresh-expire-time}") long refreshTokenExpirationDate,
+                      @Value("${gg.jwt.compact-claims:true}") boolean compactClaims,
+                      @Value("${gg.jwt.session.maximum:5}") int maxSessions,
+                      VerifiedTokenCache verifiedTokenCache) {
+        this.keyringProvider = keyringProvider;
+        this.compactClaims = compactClaims;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.maxSessions = maxSessions;
+        this.serializer = loadSerializer();
+        this.jwtParser = Jwts.parserBuilder()
+                             .setSigningKeyResolver(new KeyringSigningKeyResolver())
+                             .build();
         this.tokenExpirationDate = tokenExpirationDate;
         this.refreshTokenExpirationDate = refreshTokenExpirationDate;
     }
@@ -86,67 +122,76 @@ public class TokenUtils {
      * @return 생성된 JWT
      */
     public String generateJwt(Authentication authentication, Date issueDate) {
-        return createToken(authentication, issueDate, tokenExpirationDate);
-    }
-
-    /**
-     * Refresh Token 을 생성합니다.
-     *
-     * @param authentication - 사용자 정보
-     * @param issueDate      - 토큰 발행일자
-     * @return 생성된 Refresh 토큰
-     */
-    public String generateRefreshToken(Authentication authentication, Date issueDate) {
-        return createToken(authentication, issueDate, refreshTokenExpirationDate);
+        return createToken(authentication, issueDate, tokenExpirationDate, generateJti(), null);
     }
 
     /**
      * 토큰을 생성합니다.
+     * 모든 요청의 헤더에 실리므로 권한은 이름 배열 대신 비트마스크 하나로 기록합니다.
      *
      * @param authentication - 사용자 정보
      * @param issueDate      - 토큰 발행일자
      * @param expirationDate - 토큰 만료일자
+     * @param jti            - 토큰 ID
+     * @param sessionId      - 세션 ID, 세션에 속하지 않은 토큰이면 null
      * @return JWT
      */
-    private String createToken(Authentication authentication, Date issueDate, long expirationDate) {
+    private String createToken(Authentication authentication, Date issueDate, long expirationDate, String jti,
+                               String sessionId) {
+        JwtKeyring keyring = keyringProvider.getKeyring();
+        Set<Roles> roles = toRoles(authentication.getAuthorities());
 
         return Jwts.builder()
+                   .serializeToJsonWith(serializer)
+                   .setHeaderParam(JwsHeader.KEY_ID, keyring.getSigningKeyId())
+                   .setId(jti)
                    .setSubject(authentication.getName())
-                   .claim(AUTHORITIES,
-                          authentication.getAuthorities()
-                                        .stream()
-                                        .map(GrantedAuthority::getAuthority)
-                                        .collect(toList()))
+                   .claim(SESSION_ID, sessionId)
+                   .claim(compactClaims ? ROLES : AUTHORITIES,
+                          compactClaims ? Roles.toBitmask(roles) : roles.stream()
+                                                                       .map(Roles::name)
+                                                                       .collect(toList()))
                    .setIssuedAt(issueDate)
                    .setExpiration(new Date(issueDate.getTime() + expirationDate))
-                   .signWith(key)
+                   .signWith(keyring.getSigningKey(), keyring.getSignatureAlgorithm())
                    .compact();
     }
 
-    private Claims getClaims(String token) {
-        log.info("token = {}", token);
-        if (token.startsWith(BEARER)) {
-            token = token.substring(BEARER_LENGTH);
-        }
+    /**
+     * 다른 서비스가 JWT 서명을 검증할 때 사용할 공개키 목록을 JWK 형식으로 반환합니다.
+     * HS256 처럼 대칭키로 서명하는 경우에는 공개할 키가 없으므로 빈 목록을 반환합니다.
+     *
+     * @return 서명 검증용 공개키의 JWK 목록
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        return keyringProvider.getKeyring().getPublicJwks();
+    }
 
-        return Jwts.parserBuilder()
-                   .setSigningKey(key)
-                   .build()
-                   .parseClaimsJws(token)
-                   .getBody();
+    private Claims getClaims(String token) {
+        return jwtParser.parseClaimsJws(token)
+                        .getBody();
     }
 
     /**
-     * 토큰의 유효성을 체크합니다.
+     * JWT 의 서명과 만료일을 검증하고 클레임을 한 번에 파싱합니다.
+     * 이미 검증한 토큰은 캐시에서 꺼내 사용합니다. 폐기 여부는 검사하지 않으므로 {@link RevokedTokenRegistry} 로 확인해야 합니다.
      *
-     * @param token JWT
-     * @return 유효성 검사 결과를 반환합니다.
+     * @param token - JWT, Bearer 접두사가 있어도 됩니다.
+     * @return 검증된 토큰 정보, 유효하지 않은 토큰이면 빈 Optional 을 반환합니다.
      */
-    public boolean isInvalidToken(String token) {
+    public Optional<VerifiedToken> parseToken(String token) {
+        String jwt = stripBearer(token);
+
+        Optional<VerifiedToken> cached = verifiedTokenCache.get(jwt);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         try {
-            getClaims(token);
+            VerifiedToken verifiedToken = toVerifiedToken(jwt, getClaims(jwt));
+            verifiedTokenCache.put(verifiedToken);
 
-            return false;
+            return Optional.of(verifiedToken);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.", e);
         } catch (ExpiredJwtException e) {
@@ -156,52 +201,105 @@ public class TokenUtils {
         } catch (IllegalArgumentException | DecodingException e) {
             log.error("JWT 토큰이 잘못되었습니다.", e);
         }
-        return true;
-    }
 
-    public long getExpireDate(String token) {
-        return getClaims(token).getExpiration().getTime();
+        return Optional.empty();
     }
 
     /**
-     * 토큰에서 사용자의 Email 정보를 얻습니다.
+     * 만료된 JWT 를 파싱합니다. 서명은 검증하지만 만료일은 검증하지 않습니다.
      *
-     * @param token - JWT
-     * @return 사용자의 UUID 를 반환받는다.
+     * @param token - 만료되었을 수 있는 JWT
+     * @return 서명이 검증된 토큰 정보
+     * @throws io.jsonwebtoken.JwtException 서명이 잘못되었거나 형식이 잘못된 토큰일 때 발생합니다.
      */
-    public String getUuidFromToken(String token) {
+    public VerifiedToken parseExpiredToken(String token) {
+        String jwt = stripBearer(token);
+
         try {
-            return getClaims(token).getSubject();
+            return toVerifiedToken(jwt, getClaims(jwt));
         } catch (ExpiredJwtException e) {
-            return e.getClaims().getSubject();
+            return toVerifiedToken(jwt, e.getClaims());
         }
     }
 
     /**
-     * 만료된 JWT 를 파싱하여 Authentication 객체를 얻습니다.
+     * 검증된 토큰 정보로 Authentication 객체를 얻습니다.
      *
-     * @param jwt  - JWT
-     * @param uuid - 사용자 uuid
+     * @param token - 검증된 토큰 정보
      * @return Authentication 객체
      */
-    public Authentication getAuthenticationFromExpiredToken(String jwt, String uuid) {
-        Collection<String> roles;
+    public Authentication getAuthentication(VerifiedToken token) {
+        return new UsernamePasswordAuthenticationToken(token.getUuid(), "", token.getAuthorities());
+    }
 
-        try {
-            roles = getClaims(jwt).get(AUTHORITIES, Collection.class);
-        } catch (ExpiredJwtException e) {
-            roles = e.getClaims().get(AUTHORITIES, Collection.class);
+    private VerifiedToken toVerifiedToken(String jwt, Claims claims) {
+        Set<Roles> roles;
+        Object bitmask = claims.get(ROLES);
+        if (bitmask instanceof Number) {
+            roles = Roles.fromBitmask(((Number) bitmask).intValue());
+        } else {
+            roles = toLegacyRoles(claims.get(AUTHORITIES));
         }
 
-        Collection<GrantedAuthority> authorities = roles.stream()
-                                                        .map(SimpleGrantedAuthority::new)
-                                                        .collect(toList());
+        return new VerifiedToken(jwt, claims.getId(), claims.get(SESSION_ID, String.class), claims.getSubject(),
+                                 Collections.unmodifiableSet(roles), claims.getIssuedAt(), claims.getExpiration());
+    }
 
-        return new UsernamePasswordAuthenticationToken(uuid, "", authorities);
+    /**
+     * 로그아웃 시 블랙리스트에 JWT 원문 대신 저장할 수 있도록 96 비트 난수를 16 자의 jti 로 만듭니다.
+     */
+    private static String generateJti() {
+        byte[] bytes = new byte[JTI_BYTES];
+        RANDOM.nextBytes(bytes);
+
+        return BASE64URL.encodeToString(bytes);
     }
 
     /**
-     * Redis 에 Refresh Token 을 저장하고 JWT 정보를 반환합니다.
+     * 권한 이름 배열(AUTHORITIES)로 발급된 기존 토큰의 권한을 읽습니다.
+     */
+    private static Set<Roles> toLegacyRoles(Object authorities) {
+        Set<Roles> roles = EnumSet.noneOf(Roles.class);
+        if (authorities instanceof Collection) {
+            for (Object authority : (Collection<?>) authorities) {
+                toRole(String.valueOf(authority)).ifPresent(roles::add);
+            }
+        }
+
+        return roles;
+    }
+
+    private static Set<Roles> toRoles(Collection<? extends GrantedAuthority> authorities) {
+        Set<Roles> roles = EnumSet.noneOf(Roles.class);
+        for (GrantedAuthority authority : authorities) {
+            toRole(authority.getAuthority()).ifPresent(roles::add);
+        }
+
+        return roles;
+    }
+
+    private static Optional<Roles> toRole(String authority) {
+        for (Roles role : Roles.values()) {
+            if (role.name().equals(authority)) {
+                return Optional.of(role);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static String stripBearer(String token) {
+        if (token.startsWith(BEARER)) {
+            return token.substring(BEARER_LENGTH);
+        }
+
+        return token;
+    }
+
+    /**
+     * 새 세션을 만들어 Redis 에 Refresh Token 을 저장하고 JWT 정보를 반환합니다.
+     * 회원 UUID 해시에 세션 ID 별로 토큰 쌍의 ID(JWT 의 jti)를 저장하므로, 여러 기기에서 로그인해도 서로 덮어쓰지 않습니다.
+     * 만료된 세션 정리, 저장, 최대 세션 수를 넘은 가장 오래된 세션 삭제는 Lua 스크립트 하나로 수행하므로 Redis 왕복은 한 번입니다.
      *
      * @param redisTemplate  - Refresh Token 을 저장하기 위한 Redis
      * @param authentication - 사용자 정보
@@ -211,14 +309,138 @@ public class TokenUtils {
                                           Authentication authentication) {
 
         Date issueDate = new Date(System.currentTimeMillis());
-        String refreshToken = this.generateRefreshToken(authentication, issueDate);
+        String sessionId = generateJti();
+        String tokenId = generateJti();
+        String uuid = authentication.getName();
+
+        Long evicted = redisTemplate.execute(SAVE_SESSION_SCRIPT, RedisSerializer.byteArray(), null,
+                                             List.of(uuid, sessionsKey(uuid)),
+                                             decodeId(sessionId), decodeId(tokenId),
+                                             toBytes(issueDate.getTime() + refreshTokenExpirationDate),
+                                             toBytes(issueDate.getTime()),
+                                             toBytes(maxSessions));
+        if (Objects.nonNull(evicted) && evicted > 0) {
+            log.info("최대 세션 수를 넘어 가장 오래된 세션을 종료했습니다. uuid = {}, count = {}", uuid, evicted);
+        }
+
+        return toTokenResponse(authentication, issueDate, tokenId, sessionId);
+    }
+
+    /**
+     * 만료된 JWT 와 짝인 세션의 Refresh Token 을 새 토큰 쌍으로 교체하고 새 JWT 정보를 반환합니다.
+     * 세션 만료 확인, 저장된 토큰 쌍의 ID 확인, 교체, 만료일 설정을 Lua 스크립트 하나로 수행하므로 Redis 왕복은 한 번이며,
+     * 같은 JWT 로 동시에 재발급을 요청하면 한 번만 성공합니다.
+     * 이미 교체된 JWT 를 다시 사용하면 탈취된 것으로 보고 해당 세션을 종료합니다.
+     *
+     * @param redisTemplate - Refresh Token 을 저장하는 Redis
+     * @param expiredToken  - 서명이 검증된 만료된 JWT 정보
+     * @return 새 JWT 정보, 세션이 없거나 이미 사용된 토큰이면 빈 Optional 을 반환합니다.
+     */
+    public Optional<TokenResponse> rotateRefreshToken(RedisTemplate<String, Object> redisTemplate,
+                                                      VerifiedToken expiredToken) {
+
+        if (Objects.isNull(expiredToken.getJti()) || Objects.isNull(expiredToken.getSessionId())) {
+            return Optional.empty();
+        }
+
+        Authentication authentication = this.getAuthentication(expiredToken);
+        Date issueDate = new Date(System.currentTimeMillis());
+        String tokenId = generateJti();
+        String uuid = authentication.getName();
+
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, RedisSerializer.byteArray(), null,
+                                             List.of(uuid, sessionsKey(uuid)),
+                                             decodeId(expiredToken.getSessionId()), decodeId(expiredToken.getJti()),
+                                             decodeId(tokenId),
+                                             toBytes(issueDate.getTime() + refreshTokenExpirationDate),
+                                             toBytes(issueDate.getTime()));
+        if (!Long.valueOf(1L).equals(rotated)) {
+            if (Long.valueOf(-1L).equals(rotated)) {
+                log.warn("이미 사용된 Refresh Token 으로 재발급을 요청해 세션을 종료했습니다. uuid = {}", uuid);
+            }
+            return Optional.empty();
+        }
+
+        return Optional.of(toTokenResponse(authentication, issueDate, tokenId, expiredToken.getSessionId()));
+    }
+
+    /**
+     * 토큰이 속한 세션의 Refresh Token 을 삭제합니다. 같은 회원의 다른 세션은 유지됩니다.
+     *
+     * @param redisTemplate - Refresh Token 을 저장하는 Redis
+     * @param token         - 검증된 토큰 정보
+     */
+    public void deleteRefreshToken(RedisTemplate<String, Object> redisTemplate, VerifiedToken token) {
+        if (Objects.isNull(token.getSessionId())) {
+            return;
+        }
 
-        redisTemplate.opsForHash()
-                     .put(authentication.getName(), TokenUtils.REFRESH_TOKEN, refreshToken);
-        redisTemplate.expireAt(authentication.getName(),
-                               new Date(issueDate.getTime() + this.getRefreshTokenExpirationDate()));
+        this.deleteRefreshToken(redisTemplate, token.getUuid(), token.getSessionId());
+    }
 
-        String newJwt = this.generateJwt(authentication, issueDate);
+    /**
+     * 회원의 세션 하나의 Refresh Token 을 삭제합니다. 같은 회원의 다른 세션은 유지됩니다.
+     *
+     * @param redisTemplate - Refresh Token 을 저장하는 Redis
+     * @param uuid          - 회원의 UUID
+     * @param sessionId     - 삭제할 세션 ID
+     */
+    public void deleteRefreshToken(RedisTemplate<String, Object> redisTemplate, String uuid, String sessionId) {
+        byte[] rawSessionId = decodeId(sessionId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hDel(toBytes(uuid), rawSessionId);
+            connection.zSetCommands().zRem(toBytes(sessionsKey(uuid)), rawSessionId);
+
+            return null;
+        });
+    }
+
+    /**
+     * 토큰이 속한 세션의 만료 시각을 반환합니다.
+     * 세션은 토큰 쌍을 발급할 때마다 발급일로부터 Refresh Token 의 유효기간만큼 연장됩니다.
+     *
+     * @param token - 검증된 토큰 정보
+     * @return 세션 만료 시각 (epoch 밀리초)
+     */
+    public long getSessionExpiration(VerifiedToken token) {
+        return token.getIssuedAt().getTime() + refreshTokenExpirationDate;
+    }
+
+    /**
+     * 회원의 모든 세션의 Refresh Token 을 삭제합니다.
+     *
+     * @param redisTemplate - Refresh Token 을 저장하는 Redis
+     * @param uuid          - 회원의 UUID
+     */
+    public void deleteRefreshTokens(RedisTemplate<String, Object> redisTemplate, String uuid) {
+        redisTemplate.delete(List.of(uuid, sessionsKey(uuid)));
+    }
+
+    /**
+     * 세션 ID 와 토큰 쌍의 ID 는 base64url 문자열 대신 12 바이트 원본으로 저장하여 세션마다 메모리를 줄입니다.
+     */
+    private static byte[] decodeId(String id) {
+        return BASE64URL_DECODER.decode(id);
+    }
+
+    private static byte[] toBytes(long value) {
+        return toBytes(String.valueOf(value));
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 세션 만료 색인의 키입니다. 클러스터에서도 회원 UUID 해시와 같은 슬롯에 저장되도록 UUID 를 해시 태그로 감쌉니다.
+     */
+    private static String sessionsKey(String uuid) {
+        return SESSIONS_PREFIX + "{" + uuid + "}";
+    }
+
+    private TokenResponse toTokenResponse(Authentication authentication, Date issueDate, String tokenId,
+                                          String sessionId) {
+        String newJwt = this.createToken(authentication, issueDate, tokenExpirationDate, tokenId, sessionId);
 
         Date tokenExpireDate =
                 new Date(issueDate.getTime() + this.getTokenExpirationDate());
@@ -230,20 +452,33 @@ public class TokenUtils {
         return new TokenResponse(newJwt, tokenExpire);
     }
 
-    public void setBlackList(RedisTemplate<String, Object> redisTemplate, String jwt) {
-        long tokenExpireTime = getExpireDate(jwt) - System.currentTimeMillis();
-        redisTemplate.opsForValue().set(jwt, true, tokenExpireTime, TimeUnit.MILLISECONDS);
+    /**
+     * JWT 를 만들 때마다 ServiceLoader 로 JSON 직렬화 구현체를 찾지 않도록 미리 찾아둡니다.
+     *
+     * @return jjwt-jackson 이 제공하는 JSON 직렬화 객체
+     */
+    @SuppressWarnings("unchecked")
+    private static Serializer<Map<String, ?>> loadSerializer() {
+        return ServiceLoader.load(Serializer.class)
+                            .findFirst()
+                            .orElseThrow(IllegalStateException::new);
     }
 
-    private String getJwtSecret(String jwtSecretUrl) {
-        ResponseEntity<Map<String, Map<String, String>>> response =
-                restTemplate.exchange(jwtSecretUrl, HttpMethod.GET, null, new ParameterizedTypeReference<>() {
-                });
+    /**
+     * JWT 헤더의 kid 로 현재 키링에서 검증 키를 찾습니다.
+     */
+    private class KeyringSigningKeyResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            Key verificationKey = keyringProvider.getKeyring().getVerificationKey(header.getKeyId());
+            if (Objects.isNull(verificationKey)) {
+                throw new InvalidKeyException("알 수 없는 JWT 서명 키입니다. kid = " + header.getKeyId());
+            }
+
+            return verificationKey;
+        }
 
-        return Optional.ofNullable(response.getBody())
-                       .orElseThrow(IllegalArgumentException::new)
-                       .get("body")
-                       .get("secret");
     }
 
 }
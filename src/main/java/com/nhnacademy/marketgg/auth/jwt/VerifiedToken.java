@@ -0,0 +1,83 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 서명 검증을 마친 JWT 와 파싱된 클레임을 담는 클래스입니다.
+ * 요청마다 한 번만 파싱하여 TokenAspect 에서 컨트롤러, 서비스까지 그대로 전달합니다.
+ *
+ * @version 1.0.0
+ * @see TokenUtils#parseToken(String)
+ */
+@Getter
+@ToString(exclude = "jwt")
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    /**
+     * Bearer 접두사를 제외한 JWT 원문.
+     */
+    private final String jwt;
+
+    /**
+     * JWT 식별자(jti). jti 도입 전에 발급된 토큰은 null 입니다.
+     */
+    private final String jti;
+
+    /**
+     * 토큰이 속한 세션(기기) ID. 세션 도입 전에 발급된 토큰은 null 입니다.
+     */
+    private final String sessionId;
+
+    /**
+     * JWT 의 subject 인 사용자 UUID.
+     */
+    private final String uuid;
+
+    /**
+     * 사용자의 권한 목록.
+     */
+    private final Set<Roles> roles;
+
+    /**
+     * JWT 발행일.
+     */
+    private final Date issuedAt;
+
+    /**
+     * JWT 만료일.
+     */
+    private final Date expiration;
+
+    /**
+     * 블랙리스트에서 토큰을 식별하는 짧은 ID 를 반환합니다.
+     *
+     * @return jti, jti 가 없는 기존 토큰은 JWT 원문의 다이제스트
+     */
+    public String getTokenId() {
+        return Objects.nonNull(jti) ? jti : JwtDigests.digest(jwt);
+    }
+
+    /**
+     * 권한 목록을 Spring Security 의 권한 객체로 변환합니다.
+     *
+     * @return 사용자의 권한 목록
+     */
+    public Collection<GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                    .map(role -> new SimpleGrantedAuthority(role.name()))
+                    .collect(toUnmodifiableList());
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰을 만료일까지 보관하는 로컬 캐시입니다.
+ * 같은 JWT 가 만료될 때까지 반복해서 전달되므로 서명 검증과 클레임 파싱을 한 번만 수행합니다.
+ * 키는 JWT 원문의 SHA-256 다이제스트 앞 16 바이트이며, 항목은 토큰의 exp 시각에 만료됩니다.
+ *
+ * @version 1.0.0
+ * @see TokenUtils#parseToken(String)
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "verifiedToken";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param enabled     - 캐시 사용 여부
+     * @param maximumSize - 캐시에 보관할 최대 토큰 수
+     */
+    public VerifiedTokenCache(@Value("${gg.jwt.cache.enabled:false}") boolean enabled,
+                              @Value("${gg.jwt.cache.maximum-size:10000}") long maximumSize) {
+
+        this.cache = enabled ? Caffeine.newBuilder()
+                                       .maximumSize(maximumSize)
+                                       .expireAfter(new TokenExpiry())
+                                       .recordStats()
+                                       .build()
+                             : null;
+    }
+
+    /**
+     * 캐시된 토큰 정보를 조회합니다.
+     *
+     * @param jwt - Bearer 접두사를 제외한 JWT
+     * @return 캐시된 토큰 정보, 없으면 빈 Optional 을 반환합니다.
+     */
+    public Optional<VerifiedToken> get(String jwt) {
+        if (Objects.isNull(cache)) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(cache.getIfPresent(JwtDigests.digest(jwt)))
+                       .filter(token -> token.getJwt().equals(jwt));
+    }
+
+    /**
+     * 서명 검증을 마친 토큰 정보를 저장합니다.
+     *
+     * @param token - 검증된 토큰 정보
+     */
+    public void put(VerifiedToken token) {
+        if (Objects.isNull(cache) || Objects.isNull(token.getExpiration())) {
+            return;
+        }
+
+        cache.put(JwtDigests.digest(token.getJwt()), token);
+    }
+
+    /**
+     * 로그아웃 등으로 폐기된 토큰을 캐시에서 제거합니다.
+     *
+     * @param jwt - 폐기된 JWT
+     */
+    public void invalidate(String jwt) {
+        if (Objects.isNull(cache)) {
+            return;
+        }
+
+        cache.invalidate(JwtDigests.digest(jwt));
+    }
+
+    /**
+     * 검증 키가 교체되어 제거된 경우 캐시를 모두 비웁니다.
+     */
+    public void invalidateAll() {
+        if (Objects.isNull(cache)) {
+            return;
+        }
+
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중률 등의 통계를 actuator 메트릭으로 등록합니다.
+     *
+     * @param registry - 메트릭을 등록할 MeterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (Objects.nonNull(cache)) {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        }
+    }
+
+    /**
+     * 각 항목이 토큰의 만료일에 정확히 만료되도록 합니다.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long remainMillis = token.getExpiration().getTime() - System.currentTimeMillis();
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -2,7 +2,9 @@ package com.nhnacademy.marketgg.auth.repository.auth;
 
 import com.nhnacademy.marketgg.auth.dto.response.AdminMemberResponse;
 import com.nhnacademy.marketgg.auth.dto.response.MemberNameResponse;
+import com.nhnacademy.marketgg.auth.jwt.CustomUser;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -21,4 +23,12 @@ public interface AuthRepositoryCustom {
 
     boolean isExistNotWithdraw(String uuid);
 
+    /**
+     * 로그인에 필요한 회원 정보와 권한 이름을 한 번의 조회로 가져옵니다.
+     *
+     * @param email - 회원의 이메일
+     * @return UUID, 비밀번호 해시, 탈퇴 여부, 권한 목록을 담은 사용자 정보
+     */
+    Optional<CustomUser> findLoginUserByEmail(String email);
+
 }
@@ -1,12 +1,21 @@
 package com.nhnacademy.marketgg.auth.repository.auth;
 
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import com.nhnacademy.marketgg.auth.dto.response.AdminMemberResponse;
 import com.nhnacademy.marketgg.auth.dto.response.MemberNameResponse;
 import com.nhnacademy.marketgg.auth.entity.Auth;
 import com.nhnacademy.marketgg.auth.entity.QAuth;
+import com.nhnacademy.marketgg.auth.entity.QAuthRole;
+import com.nhnacademy.marketgg.auth.entity.QRole;
+import com.nhnacademy.marketgg.auth.jwt.CustomUser;
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -61,4 +70,32 @@ public class AuthRepositoryImpl extends QuerydslRepositorySupport implements Aut
                          .fetchOne() != null;
     }
 
+    @Override
+    public Optional<CustomUser> findLoginUserByEmail(String email) {
+        QAuth auth = QAuth.auth;
+        QAuthRole authRole = QAuthRole.authRole;
+        QRole role = QRole.role;
+
+        List<Tuple> rows = from(auth).leftJoin(authRole).on(authRole.id.authId.eq(auth.id))
+                                     .leftJoin(role).on(role.id.eq(authRole.id.roleId))
+                                     .where(auth.email.eq(email))
+                                     .select(auth.uuid, auth.password, auth.deletedAt, role.name)
+                                     .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Roles> roles = EnumSet.noneOf(Roles.class);
+        rows.stream()
+            .map(row -> row.get(role.name))
+            .filter(Objects::nonNull)
+            .forEach(roles::add);
+
+        Tuple first = rows.get(0);
+
+        return Optional.of(new CustomUser(first.get(auth.uuid), first.get(auth.password), roles,
+                                          Objects.nonNull(first.get(auth.deletedAt))));
+    }
+
 }
@@ -13,4 +13,6 @@ public interface RoleRepositoryCustom {
 
     List<Roles> findRoleNameByAuthId(Long id);
 
+    List<Long> findRoleIdsByAuthId(Long id);
+
 }
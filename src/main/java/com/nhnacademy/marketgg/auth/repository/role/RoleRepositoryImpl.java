@@ -41,4 +41,14 @@ public class RoleRepositoryImpl extends QuerydslRepositorySupport implements Rol
                          .fetch();
     }
 
+    @Override
+    public List<Long> findRoleIdsByAuthId(Long id) {
+
+        QAuthRole authRole = QAuthRole.authRole;
+
+        return from(authRole).where(authRole.id.authId.eq(id))
+                             .select(authRole.id.roleId)
+                             .fetch();
+    }
+
 }
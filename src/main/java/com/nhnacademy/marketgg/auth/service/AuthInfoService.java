@@ -1,9 +1,6 @@
 package com.nhnacademy.marketgg.auth.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.marketgg.auth.constant.Roles;
-import com.nhnacademy.marketgg.auth.dto.Payload;
 import com.nhnacademy.marketgg.auth.dto.request.AuthWithDrawRequest;
 import com.nhnacademy.marketgg.auth.dto.request.MemberUpdateRequest;
 import com.nhnacademy.marketgg.auth.dto.response.AdminMemberResponse;
@@ -13,8 +10,7 @@ import com.nhnacademy.marketgg.auth.dto.response.MemberResponse;
 import com.nhnacademy.marketgg.auth.dto.response.UuidTokenResponse;
 import com.nhnacademy.marketgg.auth.dto.response.common.PageEntity;
 import com.nhnacademy.marketgg.auth.exception.UnAuthorizationException;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 
@@ -28,12 +24,12 @@ public interface AuthInfoService {
     /**
      * UUID 를 이용하여 사용자를 찾아 반환합니다.
      *
-     * @param token - JWT
+     * @param token - 검증된 JWT 정보
      * @return - 사용자 정보를 반환합니다.
      * @throws UnAuthorizationException - 유효하지 않은 JWT 로 요청시 발생하는 예외입니다.
      * @author 윤동열
      */
-    MemberResponse findAuthByUuid(final String token) throws UnAuthorizationException;
+    MemberResponse findAuthByUuid(final VerifiedToken token) throws UnAuthorizationException;
 
     /**
      * UUID 를 이용하여 사용자 정보 조회.
@@ -62,38 +58,33 @@ public interface AuthInfoService {
 
     /**
      * 사용자 정보를 업데이트합니다.
+     * 기존 UUID 로 발급된 모든 토큰은 폐기됩니다.
      *
-     * @param token               -  JWT
+     * @param token               - 검증된 JWT 정보
      * @param memberUpdateRequest - 사용자 업데이트 정보
      * @return - 새로운 JWT
      * @author 김훈민
      */
-    UuidTokenResponse update(final String token, final MemberUpdateRequest memberUpdateRequest);
+    UuidTokenResponse update(final VerifiedToken token, final MemberUpdateRequest memberUpdateRequest);
 
     /**
      * 회원탈퇴합니다.
+     * 회원에게 발급된 모든 토큰은 폐기됩니다.
      *
-     * @param token      - JWT
+     * @param token      - 검증된 JWT 정보
      * @param withdrawAt - 삭제 시간 입니다.
      * @author 김훈민
      */
-    void withdraw(final String token, final AuthWithDrawRequest withdrawAt);
+    void withdraw(final VerifiedToken token, final AuthWithDrawRequest withdrawAt);
 
     /**
-     * JWT 토큰으로 ADMIN 권한을 확인합니다.
+     * 서명 검증을 마친 JWT 의 권한으로 ADMIN 권한을 확인합니다.
      *
-     * @param token - JWT
+     * @param token - 검증된 JWT 정보
      * @return 관리자 권한 여부
-     * @throws JsonProcessingException JSON 직렬화 시 발생 가능
      */
-    default boolean isAdmin(String token) throws JsonProcessingException {
-        String[] jwtSection = token.split("\\.");
-        String jwtPayload = jwtSection[1];
-
-        byte[] decode = Base64.getDecoder().decode(jwtPayload);
-        Payload payload = new ObjectMapper().readValue(new String(decode, StandardCharsets.UTF_8), Payload.class);
-
-        return payload.getAuthorities().contains(Roles.ROLE_ADMIN.name());
+    default boolean isAdmin(final VerifiedToken token) {
+        return token.getRoles().contains(Roles.ROLE_ADMIN);
     }
 
 }
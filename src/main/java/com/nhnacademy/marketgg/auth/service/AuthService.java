@@ -1,6 +1,9 @@
 package com.nhnacademy.marketgg.auth.service;
 
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
+import com.nhnacademy.marketgg.auth.dto.response.token.TokenIntrospectResponse;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
+import java.util.List;
 
 /**
  * 인증 관련 비즈니스 로직을 처리하는 클래스입니다.
@@ -12,11 +15,11 @@ public interface AuthService {
     /**
      * 로그아웃을 진행합니다.
      *
-     * @param token - 로그아웃하려는 사용자의 JWT 입니다.
+     * @param token - 로그아웃하려는 사용자의 검증된 JWT 정보입니다.
      * @author 윤동열
      * @since 1.0.0
      */
-    void logout(final String token);
+    void logout(final VerifiedToken token);
 
     /**
      * JWT 를 갱신합니다.
@@ -28,4 +31,14 @@ public interface AuthService {
      */
     TokenResponse renewToken(final String token);
 
+    /**
+     * 여러 JWT 의 서명, 만료일, 로그아웃 여부를 한 번에 확인합니다.
+     * 블랙리스트 조회는 Redis 왕복 한 번으로 처리합니다.
+     *
+     * @param tokens - 확인할 JWT 목록
+     * @return 요청 순서와 같은 순서의 확인 결과 목록
+     * @since 1.0.0
+     */
+    List<TokenIntrospectResponse> introspect(final List<String> tokens);
+
 }
@@ -1,6 +1,6 @@
 package com.nhnacademy.marketgg.auth.service.impl;
 
-import static java.util.stream.Collectors.toUnmodifiableList;
+import static java.util.stream.Collectors.toList;
 
 import com.nhnacademy.marketgg.auth.dto.request.AuthWithDrawRequest;
 import com.nhnacademy.marketgg.auth.dto.request.MemberUpdateRequest;
@@ -12,10 +12,14 @@ import com.nhnacademy.marketgg.auth.dto.response.UuidTokenResponse;
 import com.nhnacademy.marketgg.auth.dto.response.common.PageEntity;
 import com.nhnacademy.marketgg.auth.entity.Auth;
 import com.nhnacademy.marketgg.auth.exception.AuthNotFoundException;
+import com.nhnacademy.marketgg.auth.jwt.RevokedTokenRegistry;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
 import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
 import com.nhnacademy.marketgg.auth.service.AuthInfoService;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import com.nhnacademy.marketgg.auth.util.RoleCatalog;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,7 +44,10 @@ public class DefaultAuthInfoService implements AuthInfoService {
     private final AuthRepository authRepository;
     private final TokenUtils tokenUtils;
     private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final RedisCircuitBreaker redisCircuitBreaker;
 
     private final PasswordEncoder passwordEncoder;
 
@@ -50,9 +57,8 @@ public class DefaultAuthInfoService implements AuthInfoService {
      * @author 윤동열
      */
     @Override
-    public MemberResponse findAuthByUuid(final String token) {
-        String uuid = tokenUtils.getUuidFromToken(token);
-        Auth auth = authRepository.findByUuid(uuid)
+    public MemberResponse findAuthByUuid(final VerifiedToken token) {
+        Auth auth = authRepository.findByUuid(token.getUuid())
                                   .orElseThrow(AuthNotFoundException::new);
 
         return new MemberResponse(auth.getEmail(), auth.getName(), auth.getPhoneNumber());
@@ -92,25 +98,26 @@ public class DefaultAuthInfoService implements AuthInfoService {
      */
     @Transactional
     @Override
-    public UuidTokenResponse update(final String token, final MemberUpdateRequest memberUpdateRequest) {
-        String uuid = tokenUtils.getUuidFromToken(token);
+    public UuidTokenResponse update(final VerifiedToken token, final MemberUpdateRequest memberUpdateRequest) {
+        String uuid = token.getUuid();
         Auth updatedAuth = authRepository.findByUuid(uuid)
                                          .orElseThrow(AuthNotFoundException::new);
 
         String updatedUuid = updatedAuth.updateAuth(memberUpdateRequest, passwordEncoder);
 
-        redisTemplate.opsForHash()
-                     .delete(uuid, TokenUtils.REFRESH_TOKEN);
-        List<SimpleGrantedAuthority> roles = roleRepository.findRolesByAuthId(updatedAuth.getId())
-                                                           .stream()
-                                                           .map(r -> new SimpleGrantedAuthority(
-                                                               r.getName().name()))
-                                                           .collect(
-                                                               toUnmodifiableList());
+        redisCircuitBreaker.run(() -> tokenUtils.deleteRefreshTokens(redisTemplate, uuid));
+        revokedTokenRegistry.revokeAll(uuid);
+
+        List<Long> roleIds = roleRepository.findRoleIdsByAuthId(updatedAuth.getId());
+        List<SimpleGrantedAuthority> roles = roleCatalog.getNames(roleIds)
+                                                        .stream()
+                                                        .map(r -> new SimpleGrantedAuthority(r.name()))
+                                                        .collect(toList());
 
         UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(updatedUuid, "", roles);
 
-        return new UuidTokenResponse(tokenUtils.saveRefreshToken(redisTemplate, auth), updatedUuid);
+        return new UuidTokenResponse(redisCircuitBreaker.call(() -> tokenUtils.saveRefreshToken(redisTemplate, auth)),
+                                     updatedUuid);
     }
 
     /**
@@ -118,12 +125,13 @@ public class DefaultAuthInfoService implements AuthInfoService {
      */
     @Transactional
     @Override
-    public void withdraw(final String token, final AuthWithDrawRequest withdrawAuth) {
-        String uuid = tokenUtils.getUuidFromToken(token);
-
-        Auth deletedAuth = authRepository.findByUuid(uuid)
+    public void withdraw(final VerifiedToken token, final AuthWithDrawRequest withdrawAuth) {
+        Auth deletedAuth = authRepository.findByUuid(token.getUuid())
                                          .orElseThrow(AuthNotFoundException::new);
         deletedAuth.deleteAuth(withdrawAuth, passwordEncoder);
+
+        redisCircuitBreaker.run(() -> tokenUtils.deleteRefreshTokens(redisTemplate, token.getUuid()));
+        revokedTokenRegistry.revokeAll(token.getUuid());
     }
 
 }
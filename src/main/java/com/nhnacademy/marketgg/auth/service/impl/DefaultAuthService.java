@@ -1,15 +1,20 @@
 package com.nhnacademy.marketgg.auth.service.impl;
 
+import static java.util.stream.Collectors.toList;
+
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
-import com.nhnacademy.marketgg.auth.entity.Auth;
+import com.nhnacademy.marketgg.auth.dto.response.token.TokenIntrospectResponse;
+import com.nhnacademy.marketgg.auth.jwt.RevokedTokenRegistry;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
-import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import com.nhnacademy.marketgg.auth.service.AuthService;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,45 +28,61 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DefaultAuthService implements AuthService {
 
-    private final AuthRepository authRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final TokenUtils tokenUtils;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final RedisCircuitBreaker redisCircuitBreaker;
 
+    /**
+     * {@inheritDoc}
+     * Redis 를 사용할 수 없으면 세션 삭제를 {@link RevokedTokenRegistry} 에 맡겨 Redis 가 복구된 뒤 삭제하고,
+     * 그동안 세션의 Refresh Token 은 사용할 수 없습니다.
+     */
     @Override
-    public void logout(final String token) {
-        String uuid = tokenUtils.getUuidFromToken(token);
-
-        redisTemplate.opsForHash().delete(uuid, TokenUtils.REFRESH_TOKEN);
+    public void logout(final VerifiedToken token) {
+        redisCircuitBreaker.run(() -> tokenUtils.deleteRefreshToken(redisTemplate, token),
+                                () -> revokedTokenRegistry.deleteSessionLater(token));
 
-        tokenUtils.setBlackList(redisTemplate, token);
+        revokedTokenRegistry.revoke(token);
     }
 
+    /**
+     * {@inheritDoc}
+     * 탈퇴나 정보 수정으로 폐기된 토큰은 {@link RevokedTokenRegistry} 에서 걸러지므로 회원 정보를 조회하지 않고,
+     * Refresh Token 의 확인과 교체는 Redis 왕복 한 번으로 수행합니다.
+     */
     @Override
     public TokenResponse renewToken(final String token) {
-        String uuid = tokenUtils.getUuidFromToken(token);
-
-        Optional<Auth> auth = authRepository.findByUuid(uuid)
-                                            .filter(a -> !a.isWithdraw());
+        VerifiedToken expiredToken = tokenUtils.parseExpiredToken(token);
 
-        String refreshToken =
-                (String) redisTemplate.opsForHash().get(uuid, TokenUtils.REFRESH_TOKEN);
-
-        if (auth.isEmpty() || this.isInvalidToken(uuid, refreshToken)) {
+        if (revokedTokenRegistry.isRevoked(expiredToken)) {
             return null;
         }
 
-        redisTemplate.opsForHash().delete(uuid, TokenUtils.REFRESH_TOKEN);
+        return redisCircuitBreaker.call(() -> tokenUtils.rotateRefreshToken(redisTemplate, expiredToken))
+                                  .orElse(null);
+    }
+
+    @Override
+    public List<TokenIntrospectResponse> introspect(final List<String> tokens) {
+        List<VerifiedToken> verifiedTokens = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            verifiedTokens.add(tokenUtils.parseToken(token).orElse(null));
+        }
 
-        Authentication authentication =
-                tokenUtils.getAuthenticationFromExpiredToken(token, uuid);
+        Set<String> revoked = revokedTokenRegistry.findRevoked(verifiedTokens.stream()
+                                                                             .filter(Objects::nonNull)
+                                                                             .collect(toList()));
 
-        return tokenUtils.saveRefreshToken(redisTemplate, authentication);
-    }
+        List<TokenIntrospectResponse> responses = new ArrayList<>(tokens.size());
+        for (VerifiedToken verifiedToken : verifiedTokens) {
+            responses.add(Objects.isNull(verifiedToken)
+                              ? TokenIntrospectResponse.inactive()
+                              : TokenIntrospectResponse.of(verifiedToken,
+                                                           revoked.contains(verifiedToken.getJwt())));
+        }
 
-    private boolean isInvalidToken(String uuid, String refreshToken) {
-        return Objects.isNull(refreshToken)
-                || tokenUtils.isInvalidToken(refreshToken)
-                || !Objects.equals(uuid, tokenUtils.getUuidFromToken(refreshToken));
+        return responses;
     }
 
 }
@@ -14,14 +14,15 @@ import com.nhnacademy.marketgg.auth.exception.AuthNotFoundException;
 import com.nhnacademy.marketgg.auth.exception.EmailOverlapException;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
 import com.nhnacademy.marketgg.auth.repository.authrole.AuthRoleRepository;
-import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
 import com.nhnacademy.marketgg.auth.service.SignUpService;
 import com.nhnacademy.marketgg.auth.util.MailUtils;
 import com.nhnacademy.marketgg.auth.util.RedisUtils;
+import com.nhnacademy.marketgg.auth.util.RoleCatalog;
 import com.nhnacademy.marketgg.auth.util.Status;
 import javax.management.relation.RoleNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisInvalidSubscriptionException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,7 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DefaultSignUpService implements SignUpService {
 
     private final AuthRepository authRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
     private final AuthRoleRepository authRoleRepository;
     private final PasswordEncoder passwordEncoder;
     private final MailUtils mailUtils;
@@ -60,9 +61,9 @@ public class DefaultSignUpService implements SignUpService {
 
         signUpRequest.encodingPassword(passwordEncoder);
         Auth signupAuth = authRepository.save(new Auth(signUpRequest));
-        Role role = roleRepository.findByName(Roles.ROLE_USER)
-                                  .orElseThrow(
-                                          () -> new RoleNotFoundException("해당 권한은 존재 하지 않습니다."));
+        Role role = roleCatalog.getRole(Roles.ROLE_USER)
+                               .orElseThrow(
+                                       () -> new RoleNotFoundException("해당 권한은 존재 하지 않습니다."));
         authRoleRepository.save(new AuthRole(new AuthRole.Pk(signupAuth.getId(), role.getId()), signupAuth, role));
 
         // 추천인 이메일이 있는경우
@@ -80,6 +81,7 @@ public class DefaultSignUpService implements SignUpService {
     /**
      * 입력한 이메일이 중복되지 않으면 Redis 에 key 값에 Email 을 보관합니다.
      * 입력한 이메일이 중복되면 예외처리 합니다.
+     * 재발송 제한 key 를 먼저 선점한 요청만 메일을 보내고, 메일 발송에 실패하면 key 를 지워 다시 요청할 수 있도록 합니다.
      *
      * @param emailRequest - 클라이언트가 입력한 이메일 객체 입니다.
      * @return 중복되지 않으면 정상적으로 중복되지 않는다는 값을 가진 Response 객체를 반환합니다.
@@ -98,8 +100,12 @@ public class DefaultSignUpService implements SignUpService {
         String key = emailRequest.getEmail();
         String value = Status.ABLE.toString();
 
-        if (mailUtils.sendMail(emailRequest.getEmail())) {
-            redisUtils.set(key, value);
+        if (!redisUtils.setIfAbsent(key, value)) {
+            throw new RedisInvalidSubscriptionException("해당 이메일은 메일 재발송 시간이 경과하지 않았습니다.");
+        }
+
+        if (!mailUtils.sendMail(emailRequest.getEmail())) {
+            redisUtils.delete(key);
         }
 
         return new ExistEmailResponse(false);
@@ -111,10 +117,7 @@ public class DefaultSignUpService implements SignUpService {
             throw new EmailOverlapException(emailUseRequest.getEmail());
         }
 
-        String key = emailUseRequest.getEmail();
-        if (redisUtils.hasKey(key)) {
-            redisUtils.deleteAuth(key);
-        }
+        redisUtils.deleteAuth(emailUseRequest.getEmail());
 
         return new UseEmailResponse(true);
     }
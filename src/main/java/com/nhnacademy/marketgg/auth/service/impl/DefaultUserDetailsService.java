@@ -1,14 +1,12 @@
 package com.nhnacademy.marketgg.auth.service.impl;
 
 import com.nhnacademy.marketgg.auth.entity.Auth;
-import com.nhnacademy.marketgg.auth.entity.Role;
 import com.nhnacademy.marketgg.auth.exception.AuthNotFoundException;
 import com.nhnacademy.marketgg.auth.jwt.CustomUser;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
-import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Email 을 이용하여 사용자를 찾습니다.
+ * 로그인에 성공했을 때 저장된 비밀번호 해시가 현재 설정보다 약하면 새 해시로 교체합니다.
  *
  * @author 윤동열
  * @version 1.0.0
@@ -23,13 +22,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
-public class DefaultUserDetailsService implements UserDetailsService {
+public class DefaultUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AuthRepository authRepository;
-    private final RoleRepository roleRepository;
 
     /**
      * Spring Security 를 사용하여 로그인 진행 시 email 을 통해 사용자를 찾습니다.
+     * 회원 정보와 권한 이름을 한 번의 조회로 가져옵니다.
      *
      * @param email - 로그인을 시도하려는 사용자의 Email
      * @return 찾은 사용자를 바탕으로 생성된 UserDetails
@@ -37,12 +36,27 @@ public class DefaultUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(final String email) throws UsernameNotFoundException {
-        Auth auth = authRepository.findByEmail(email)
-                                  .orElseThrow(() -> new AuthNotFoundException(email));
+        return authRepository.findLoginUserByEmail(email)
+                             .orElseThrow(() -> new AuthNotFoundException(email));
+    }
+
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시를 다시 해시한 값으로 교체합니다.
+     * DaoAuthenticationProvider 가 PasswordEncoder#upgradeEncoding 이 true 일 때만 호출합니다.
+     *
+     * @param user        - loadUserByUsername 이 반환한 사용자, username 은 회원의 UUID 입니다.
+     * @param newPassword - 다시 해시한 비밀번호
+     * @return 새 비밀번호 해시가 반영된 UserDetails
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        Auth auth = authRepository.findByUuid(user.getUsername())
+                                  .orElseThrow(AuthNotFoundException::new);
 
-        List<Role> roles = roleRepository.findRolesByAuthId(auth.getId());
+        auth.upgradePassword(newPassword);
 
-        return new CustomUser(auth.getUuid(), auth.getPassword(), roles, auth.isWithdraw());
+        return ((CustomUser) user).withPassword(newPassword);
     }
 
 }
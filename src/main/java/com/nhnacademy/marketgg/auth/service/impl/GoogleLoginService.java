@@ -16,6 +16,8 @@ import com.nhnacademy.marketgg.auth.oauth2.OAuthToken;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
 import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
 import com.nhnacademy.marketgg.auth.service.Oauth2Service;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import com.nhnacademy.marketgg.auth.util.RoleCatalog;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -56,9 +58,11 @@ public class GoogleLoginService implements Oauth2Service {
 
     private final AuthRepository authRepository;
     private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
     private final TokenUtils tokenUtils;
     private final RedisTemplate<String, Object> redisTemplate;
     private final GoogleAdapter googleAdapter;
+    private final RedisCircuitBreaker redisCircuitBreaker;
 
     /**
      * {@inheritDoc}
@@ -83,14 +87,14 @@ public class GoogleLoginService implements Oauth2Service {
             throw new WithdrawMemberException();
         }
 
-        List<SimpleGrantedAuthority> roles = roleRepository.findRolesByAuthId(auth.getId())
-                                                           .stream()
-                                                           .map(r -> new SimpleGrantedAuthority(r.getName().name()))
-                                                           .collect(toList());
+        List<SimpleGrantedAuthority> roles = roleCatalog.getNames(roleRepository.findRoleIdsByAuthId(auth.getId()))
+                                                        .stream()
+                                                        .map(r -> new SimpleGrantedAuthority(r.name()))
+                                                        .collect(toList());
 
         UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(auth.getUuid(), "", roles);
 
-        TokenResponse jwtResponse = tokenUtils.saveRefreshToken(redisTemplate, token);
+        TokenResponse jwtResponse = redisCircuitBreaker.call(() -> tokenUtils.saveRefreshToken(redisTemplate, token));
 
         // 로그인 성공 시 JWT 반환
         return OauthLoginResponse.loginSuccess(jwtResponse);
@@ -0,0 +1,92 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합에 대한 thread-safe Bloom filter 입니다.
+ * 포함되지 않은 값은 항상 false 를 반환하고, 포함된 값은 설정한 오탐률 이하로만 잘못 true 를 반환합니다.
+ *
+ * @version 1.0.0
+ */
+public final class BloomFilter {
+
+    private static final long SEED1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * 예상 원소 수와 오탐률로 Bloom filter 를 만듭니다.
+     *
+     * @param expectedInsertions - 예상 원소 수
+     * @param falsePositiveRate  - 허용할 오탐률 (0 과 1 사이)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1L);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bits = new AtomicLongArray((int) Math.max((m + Long.SIZE - 1) / Long.SIZE, 1L));
+        this.bitSize = (long) bits.length() * Long.SIZE;
+        this.hashCount = Math.max((int) Math.round((double) bitSize / n * Math.log(2)), 1);
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value - 추가할 값
+     */
+    public void put(String value) {
+        long h1 = hash(value, SEED1);
+        long h2 = hash(value, SEED2);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 값이 포함되어 있을 가능성이 있는지 확인합니다.
+     *
+     * @param value - 확인할 값
+     * @return 포함되지 않았으면 false, 포함되었을 수 있으면 true
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value, SEED1);
+        long h2 = hash(value, SEED2);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ b) * 0x100000001B3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE53B1A85L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import com.nhnacademy.marketgg.auth.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해시를 전용 스레드 풀에서 수행하는 PasswordEncoder 입니다.
+ * 해시 한 번에 수십 밀리초의 CPU 를 쓰므로 Tomcat 작업 스레드에서 제한 없이 실행하면 로그인이 몰릴 때
+ * 토큰 갱신 등 다른 요청까지 처리하지 못합니다. 동시에 실행되는 해시를 풀 크기로 제한하고,
+ * 대기열이 가득 차거나 대기 시간이 지나면 기다리지 않고 {@link PasswordHashingRejectedException} 을 던집니다.
+ *
+ * <p>대기열 길이, 실행 중인 해시 수, 해시 시간, 거부 횟수를 메트릭으로 노출합니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "password.hash";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final long retryAfterSeconds;
+
+    private volatile Timer hashTimer;
+    private volatile Counter rejectedCounter;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param delegate          - 실제 해시를 수행할 PasswordEncoder
+     * @param poolSize          - 동시에 해시를 수행할 스레드 수, 0 이하면 CPU 코어 수
+     * @param queueCapacity     - 풀이 모두 사용 중일 때 대기할 수 있는 요청 수
+     * @param timeout           - 대기를 포함해 해시 결과를 기다리는 최대 시간 (밀리초)
+     * @param retryAfterSeconds - 거부 시 Retry-After 로 응답할 시간 (초)
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity,
+                                  long timeout, long retryAfterSeconds) {
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               new CustomizableThreadFactory("password-hash-"),
+                                               new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(retryAfterSeconds, 1L);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return this.submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시를 다시 해시해야 하는지 확인합니다.
+     * 해시를 기다리는 요청이 있으면 로그인마다 해시가 한 번 더 늘지 않도록 다음 로그인으로 미룹니다.
+     *
+     * @param encodedPassword - 저장된 해시
+     * @return 다시 해시해야 하고 풀에 여유가 있으면 true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return executor.getQueue().isEmpty() && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(this.timed(task));
+        } catch (RejectedExecutionException e) {
+            throw this.reject("비밀번호 해시 대기열이 가득 찼습니다.", e);
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw this.reject("비밀번호 해시 대기 시간을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw this.reject("비밀번호 해시를 기다리는 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> Callable<T> timed(Callable<T> task) {
+        Timer timer = hashTimer;
+        return Objects.isNull(timer) ? task : () -> timer.recordCallable(task);
+    }
+
+    private PasswordHashingRejectedException reject(String message, Exception cause) {
+        log.warn(message);
+        if (Objects.nonNull(rejectedCounter)) {
+            rejectedCounter.increment();
+        }
+
+        return new PasswordHashingRejectedException(retryAfterSeconds, cause);
+    }
+
+    /**
+     * 대기열 길이, 실행 중인 해시 수, 해시 시간, 거부 횟수를 actuator 메트릭으로 등록합니다.
+     *
+     * @param meterRegistry - 메트릭을 등록할 MeterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, e -> e.getQueue().size())
+             .description("비밀번호 해시를 기다리는 요청 수")
+             .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+             .description("실행 중인 비밀번호 해시 수")
+             .register(meterRegistry);
+
+        this.hashTimer = Timer.builder(METRIC_PREFIX)
+                              .description("비밀번호 해시 시간")
+                              .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                                      .description("풀이 가득 차 거부한 비밀번호 해시 수")
+                                      .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+}
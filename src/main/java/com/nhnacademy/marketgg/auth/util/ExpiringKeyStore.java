@@ -0,0 +1,96 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 항목마다 만료 시각을 가지는 크기 제한 메모리 저장소입니다.
+ * Redis 를 사용할 수 없는 동안 짧게 유지되는 상태를 인스턴스 로컬에 보관하는 용도로 사용합니다.
+ * 최대 크기를 넘으면 오래 사용하지 않은 항목부터 제거되므로 메모리 사용량이 제한됩니다.
+ *
+ * @version 1.0.0
+ */
+public final class ExpiringKeyStore {
+
+    private final Cache<String, Long> entries;
+
+    /**
+     * 최대 크기로 저장소를 만듭니다.
+     *
+     * @param maximumSize - 보관할 최대 항목 수
+     */
+    public ExpiringKeyStore(long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                               .maximumSize(maximumSize)
+                               .expireAfter(new ExpireAt())
+                               .build();
+    }
+
+    /**
+     * key 가 없을 때만 주어진 시간 동안 보관합니다.
+     *
+     * @param key - 보관할 key
+     * @param ttl - 보관할 시간 (밀리초)
+     * @return 새로 보관했으면 true, 이미 key 가 있으면 false
+     */
+    public boolean putIfAbsent(String key, long ttl) {
+        return entries.asMap().putIfAbsent(key, System.currentTimeMillis() + ttl) == null;
+    }
+
+    /**
+     * key 를 주어진 시각까지 보관합니다.
+     *
+     * @param key      - 보관할 key
+     * @param expireAt - 만료 시각 (epoch 밀리초)
+     */
+    public void put(String key, long expireAt) {
+        entries.put(key, expireAt);
+    }
+
+    public boolean contains(String key) {
+        return entries.getIfPresent(key) != null;
+    }
+
+    public void remove(String key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * 만료되지 않은 항목의 key 와 만료 시각을 반환합니다. 반환된 Map 은 저장소에 연결되어 있습니다.
+     *
+     * @return key 와 만료 시각 (epoch 밀리초)
+     */
+    public Map<String, Long> asMap() {
+        return entries.asMap();
+    }
+
+    /**
+     * 값으로 저장한 만료 시각에 항목을 제거합니다.
+     */
+    private static class ExpireAt implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expireAt, long currentTime) {
+            return remaining(expireAt);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expireAt, long currentTime, long currentDuration) {
+            return remaining(expireAt);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expireAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remaining(long expireAt) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expireAt - System.currentTimeMillis(), 0L));
+        }
+
+    }
+
+}
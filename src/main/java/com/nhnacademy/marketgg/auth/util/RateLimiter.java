@@ -0,0 +1,143 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인과 이메일 인증처럼 비용이 큰 요청의 횟수를 제한합니다.
+ * 인스턴스마다 가진 토큰 버킷으로 먼저 확인하여 이 인스턴스에서 이미 한도를 넘은 요청은 Redis 를 호출하지 않고 거부하고,
+ * 통과한 요청만 Redis 의 슬라이딩 윈도우로 전체 인스턴스 기준의 한도를 확인합니다.
+ *
+ * <p>Redis 를 사용할 수 없으면 토큰 버킷만으로 판단합니다.</p>
+ *
+ * @version 1.0.0
+ * @see RedisCircuitBreaker
+ */
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final long ALLOWED = 0L;
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/sliding-window.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final long window;
+    private final Map<Policy, Integer> limits = new EnumMap<>(Policy.class);
+    private final Cache<String, TokenBucket> buckets;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param redisTemplate       - 요청 기록을 저장하는 Redis
+     * @param redisCircuitBreaker - Redis 호출을 감싸는 회로 차단기
+     * @param window              - 요청 수를 세는 윈도우 크기 (밀리초)
+     * @param loginIpLimit        - 윈도우 동안 IP 당 허용할 로그인 시도 수
+     * @param loginAccountLimit   - 윈도우 동안 계정당 허용할 로그인 시도 수
+     * @param emailIpLimit        - 윈도우 동안 IP 당 허용할 인증 메일 요청 수
+     * @param localMaximumSize    - 토큰 버킷을 보관할 최대 대상 수
+     */
+    public RateLimiter(RedisTemplate<String, Object> redisTemplate,
+                       RedisCircuitBreaker redisCircuitBreaker,
+                       @Value("${gg.rate-limit.window:60000}") long window,
+                       @Value("${gg.rate-limit.login-ip:30}") int loginIpLimit,
+                       @Value("${gg.rate-limit.login-account:10}") int loginAccountLimit,
+                       @Value("${gg.rate-limit.email-ip:10}") int emailIpLimit,
+                       @Value("${gg.rate-limit.local-maximum-size:100000}") long localMaximumSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.window = window;
+        this.limits.put(Policy.LOGIN_IP, loginIpLimit);
+        this.limits.put(Policy.LOGIN_ACCOUNT, loginAccountLimit);
+        this.limits.put(Policy.EMAIL_IP, emailIpLimit);
+        this.buckets = Caffeine.newBuilder()
+                               .maximumSize(localMaximumSize)
+                               .expireAfterAccess(window, TimeUnit.MILLISECONDS)
+                               .build();
+    }
+
+    /**
+     * 요청을 허용할지 확인하고, 허용하면 요청 수에 더합니다.
+     *
+     * @param policy  - 제한 정책
+     * @param subject - 제한 대상 (IP 또는 계정)
+     * @return 허용하면 0, 거부하면 다시 요청할 수 있을 때까지 남은 시간 (밀리초)
+     */
+    public long tryAcquire(Policy policy, String subject) {
+        String key = KEY_PREFIX + policy.name + ":" + subject;
+        int limit = limits.get(policy);
+        long now = System.currentTimeMillis();
+
+        long wait = buckets.get(key, k -> new TokenBucket(limit, now))
+                           .tryConsume(now, limit, (double) limit / window);
+        if (wait != ALLOWED) {
+            return wait;
+        }
+
+        String member = now + ":" + Long.toString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX);
+        Long remaining = redisCircuitBreaker.call(
+                () -> redisTemplate.execute(SLIDING_WINDOW_SCRIPT, RedisSerializer.string(), null, List.of(key),
+                                            String.valueOf(now), String.valueOf(window), String.valueOf(limit),
+                                            member),
+                () -> ALLOWED);
+
+        return Objects.isNull(remaining) ? ALLOWED : remaining;
+    }
+
+    /**
+     * 요청 수 제한 정책입니다.
+     */
+    @RequiredArgsConstructor
+    public enum Policy {
+
+        LOGIN_IP("login:ip"),
+        LOGIN_ACCOUNT("login:account"),
+        EMAIL_IP("email:ip");
+
+        private final String name;
+
+    }
+
+    /**
+     * 윈도우 크기마다 한도만큼 채워지는 토큰 버킷입니다.
+     */
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryConsume(long now, int capacity, double tokensPerMillis) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerMillis);
+            refilledAt = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return ALLOWED;
+            }
+
+            return Math.max((long) Math.ceil((1 - tokens) / tokensPerMillis), 1L);
+        }
+
+    }
+
+}
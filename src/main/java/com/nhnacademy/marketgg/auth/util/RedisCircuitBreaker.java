@@ -0,0 +1,180 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import com.nhnacademy.marketgg.auth.exception.RedisUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 호출을 감싸는 회로 차단기입니다.
+ * 연결 실패, 명령 시간 초과, 커넥션 풀 고갈이 일정 비율을 넘거나 느린 호출이 많아지면 회로를 열고,
+ * 열린 동안에는 Redis 를 호출하지 않고 바로 {@link RedisUnavailableException} 을 던지거나 대체 값을 사용합니다.
+ * 따라서 Redis 장애 중에도 요청이 명령 시간 초과만큼 묶여 있지 않습니다.
+ *
+ * <p>회로가 닫혀 있지 않은 동안은 health 에 {@code DEGRADED} 상태로 표시됩니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker implements HealthIndicator, MeterBinder {
+
+    private static final String NAME = "redis";
+    private static final Status DEGRADED = new Status("DEGRADED", "Redis 를 사용할 수 없어 로컬 대체 저장소로 동작합니다.");
+
+    private final CircuitBreakerRegistry registry;
+    private final CircuitBreaker circuitBreaker;
+    private final long retryAfterSeconds;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param failureRateThreshold - 회로를 여는 실패율 (%)
+     * @param slowCallDuration     - 느린 호출로 보는 시간 (밀리초), 느린 호출도 같은 비율을 넘으면 회로를 엽니다.
+     * @param openDuration         - 회로를 연 뒤 다시 시험 호출을 허용하기까지의 시간 (밀리초)
+     * @param slidingWindowSize    - 실패율을 계산할 최근 호출 수
+     * @param minimumCalls         - 실패율을 계산하기 위한 최소 호출 수
+     */
+    public RedisCircuitBreaker(
+            @Value("${gg.redis.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${gg.redis.circuit-breaker.slow-call-duration:250}") long slowCallDuration,
+            @Value("${gg.redis.circuit-breaker.open-duration:10000}") long openDuration,
+            @Value("${gg.redis.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${gg.redis.circuit-breaker.minimum-calls:10}") int minimumCalls) {
+
+        CircuitBreakerConfig config =
+                CircuitBreakerConfig.custom()
+                                    .failureRateThreshold(failureRateThreshold)
+                                    .slowCallRateThreshold(failureRateThreshold)
+                                    .slowCallDurationThreshold(Duration.ofMillis(slowCallDuration))
+                                    .waitDurationInOpenState(Duration.ofMillis(openDuration))
+                                    .slidingWindowSize(slidingWindowSize)
+                                    .minimumNumberOfCalls(minimumCalls)
+                                    .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                                    .recordExceptions(DataAccessResourceFailureException.class,
+                                                      QueryTimeoutException.class,
+                                                      PoolException.class)
+                                    .build();
+
+        this.registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker(NAME);
+        this.retryAfterSeconds = Math.max(Duration.ofMillis(openDuration).toSeconds(), 1L);
+
+        circuitBreaker.getEventPublisher()
+                      .onStateTransition(event -> log.warn("Redis 회로 차단기 상태 변경: {}",
+                                                           event.getStateTransition()));
+    }
+
+    /**
+     * Redis 명령을 실행합니다.
+     *
+     * @param command - 실행할 Redis 명령
+     * @param <T>     - 명령의 결과 타입
+     * @return 명령의 결과
+     * @throws RedisUnavailableException 회로가 열려 있거나 Redis 장애로 명령이 실패한 경우
+     */
+    public <T> T call(Supplier<T> command) {
+        try {
+            return circuitBreaker.executeSupplier(command);
+        } catch (CallNotPermittedException | DataAccessResourceFailureException | QueryTimeoutException
+                 | PoolException e) {
+            throw new RedisUnavailableException(retryAfterSeconds, e);
+        }
+    }
+
+    /**
+     * Redis 명령을 실행하고, Redis 를 사용할 수 없으면 대체 값을 사용합니다.
+     *
+     * @param command  - 실행할 Redis 명령
+     * @param fallback - Redis 를 사용할 수 없을 때의 대체 값
+     * @param <T>      - 명령의 결과 타입
+     * @return 명령의 결과 또는 대체 값
+     */
+    public <T> T call(Supplier<T> command, Supplier<T> fallback) {
+        try {
+            return this.call(command);
+        } catch (RedisUnavailableException e) {
+            log.debug("Redis 를 사용할 수 없어 대체 값을 사용합니다.", e);
+            return fallback.get();
+        }
+    }
+
+    /**
+     * 결과가 없는 Redis 명령을 실행합니다.
+     *
+     * @param command - 실행할 Redis 명령
+     * @throws RedisUnavailableException 회로가 열려 있거나 Redis 장애로 명령이 실패한 경우
+     */
+    public void run(Runnable command) {
+        this.call(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * 결과가 없는 Redis 명령을 실행하고, Redis 를 사용할 수 없으면 대체 동작을 실행합니다.
+     *
+     * @param command  - 실행할 Redis 명령
+     * @param fallback - Redis 를 사용할 수 없을 때의 대체 동작
+     */
+    public void run(Runnable command, Runnable fallback) {
+        try {
+            this.run(command);
+        } catch (RedisUnavailableException e) {
+            log.debug("Redis 를 사용할 수 없어 대체 동작을 실행합니다.", e);
+            fallback.run();
+        }
+    }
+
+    /**
+     * 회로가 닫혀 있지 않아 Redis 대신 대체 저장소를 사용하는 중인지 확인합니다.
+     *
+     * @return 회로가 닫혀 있지 않으면 true
+     */
+    public boolean isDegraded() {
+        return circuitBreaker.getState() != CircuitBreaker.State.CLOSED;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public Health health() {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+
+        return Health.status(isDegraded() ? DEGRADED : Status.UP)
+                     .withDetail("state", circuitBreaker.getState())
+                     .withDetail("failureRate", metrics.getFailureRate())
+                     .withDetail("slowCallRate", metrics.getSlowCallRate())
+                     .withDetail("notPermittedCalls", metrics.getNumberOfNotPermittedCalls())
+                     .build();
+    }
+
+    /**
+     * 회로 상태와 호출 결과를 actuator 메트릭으로 등록합니다.
+     *
+     * @param meterRegistry - 메트릭을 등록할 MeterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+}
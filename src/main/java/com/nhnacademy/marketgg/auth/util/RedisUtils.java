@@ -1,41 +1,64 @@
 package com.nhnacademy.marketgg.auth.util;
 
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.RedisInvalidSubscriptionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
+/**
+ * 이메일 인증과 재발송 제한에 사용하는 Redis 유틸리티입니다.
+ * Redis 를 사용할 수 없는 동안에는 재발송 제한을 인스턴스 로컬 저장소로 대신합니다.
+ *
+ * @see RedisCircuitBreaker
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisUtils {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final ExpiringKeyStore fallbackStore;
     private static final long TIMEOUT = 3;
 
-    public boolean delete(String key) {
-        return Boolean.TRUE.equals(redisTemplate.delete(key));
+    public RedisUtils(RedisTemplate<String, String> redisTemplate,
+                      RedisCircuitBreaker redisCircuitBreaker,
+                      @Value("${gg.redis.fallback.maximum-size:10000}") long fallbackMaximumSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.fallbackStore = new ExpiringKeyStore(fallbackMaximumSize);
     }
 
-    public boolean hasKey(String key) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public boolean delete(String key) {
+        fallbackStore.remove(key);
+
+        return redisCircuitBreaker.call(() -> Boolean.TRUE.equals(redisTemplate.delete(key)), () -> false);
     }
 
-    public void set(String key, String value) throws RedisInvalidSubscriptionException {
+    /**
+     * key 가 없을 때만 재발송 제한 시간 동안 값을 저장합니다. SET NX EX 한 번으로 확인과 저장을 함께 처리하므로
+     * 동시에 요청해도 한 요청만 성공합니다.
+     * Redis 를 사용할 수 없으면 로컬 저장소에서 같은 방식으로 선점합니다.
+     *
+     * @param key   - 저장할 key
+     * @param value - 저장할 값
+     * @return 값을 저장했으면 true, 이미 key 가 있으면 false
+     */
+    public boolean setIfAbsent(String key, String value) {
         ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        if (hasKey(key)) {
-            throw new RedisInvalidSubscriptionException("해당 이메일은 메일 재발송 시간이 경과하지 않았습니다.");
-        }
 
-        valueOperations.set(key, value, TIMEOUT, TimeUnit.MINUTES);
+        return redisCircuitBreaker.call(
+                () -> Boolean.TRUE.equals(valueOperations.setIfAbsent(key, value, TIMEOUT, TimeUnit.MINUTES)),
+                () -> fallbackStore.putIfAbsent(key, TimeUnit.MINUTES.toMillis(TIMEOUT)));
     }
 
     public void deleteAuth(String email) {
+        fallbackStore.remove(email);
+
         ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.getAndDelete(email);
+        redisCircuitBreaker.call(() -> valueOperations.getAndDelete(email), () -> null);
     }
 
 }
@@ -0,0 +1,113 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.entity.Role;
+import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * roles 테이블 전체를 메모리에 들고 있는 권한 목록입니다.
+ * roles 는 거의 바뀌지 않는 작은 테이블이므로 회원가입, 소셜 로그인마다 조회하지 않고 이 목록을 사용합니다.
+ * 시작 시점에 한 번 읽어오고, 주기적으로 또는 목록에 없는 권한을 찾을 때 다시 읽어옵니다.
+ * 요청 스레드는 volatile 로 공개된 목록을 읽기만 합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class RoleCatalog {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Catalog catalog = new Catalog(List.of());
+
+    /**
+     * 생성자입니다. 시작 시점에 권한 목록을 한 번 읽어옵니다.
+     *
+     * @param roleRepository - 권한 목록을 읽어올 Repository
+     */
+    public RoleCatalog(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+        this.refresh();
+    }
+
+    /**
+     * 권한 이름으로 권한 엔티티를 찾습니다.
+     *
+     * @param name - 권한 이름
+     * @return 권한 엔티티, 다시 읽어온 뒤에도 없으면 빈 Optional 을 반환합니다.
+     */
+    public Optional<Role> getRole(Roles name) {
+        Role role = catalog.byName.get(name);
+        if (role == null) {
+            this.refresh();
+            role = catalog.byName.get(name);
+        }
+
+        return Optional.ofNullable(role);
+    }
+
+    /**
+     * 권한 번호 목록을 권한 이름 목록으로 변환합니다.
+     *
+     * @param roleIds - 권한 번호 목록
+     * @return 권한 이름 목록, 다시 읽어온 뒤에도 알 수 없는 번호는 무시합니다.
+     */
+    public Set<Roles> getNames(Collection<Long> roleIds) {
+        if (!catalog.byId.keySet().containsAll(roleIds)) {
+            this.refresh();
+        }
+
+        Map<Long, Roles> byId = catalog.byId;
+        Set<Roles> names = EnumSet.noneOf(Roles.class);
+        for (Long roleId : roleIds) {
+            Optional.ofNullable(byId.get(roleId)).ifPresent(names::add);
+        }
+
+        return names;
+    }
+
+    /**
+     * roles 테이블을 다시 읽어옵니다. 실패하면 기존 목록을 그대로 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${gg.role.refresh-interval:600000}",
+               initialDelayString = "${gg.role.refresh-interval:600000}")
+    public void refresh() {
+        try {
+            catalog = new Catalog(roleRepository.findAll());
+        } catch (RuntimeException e) {
+            log.error("권한 목록을 읽어오지 못해 기존 목록을 유지합니다.", e);
+        }
+    }
+
+    private static final class Catalog {
+
+        private final Map<Roles, Role> byName;
+        private final Map<Long, Roles> byId;
+
+        Catalog(List<Role> roles) {
+            Map<Roles, Role> names = new EnumMap<>(Roles.class);
+            Map<Long, Roles> ids = new HashMap<>();
+            for (Role role : roles) {
+                names.put(role.getName(), role);
+                ids.put(role.getId(), role.getName());
+            }
+
+            this.byName = Collections.unmodifiableMap(names);
+            this.byId = Collections.unmodifiableMap(ids);
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+-- 세션의 Refresh Token 을 원자적으로 교체합니다.
+-- 세션 ID 와 토큰 쌍의 ID 는 12 바이트 원본입니다.
+-- KEYS[1] : 회원 UUID (세션 ID -> 토큰 쌍의 ID 해시)
+-- KEYS[2] : 세션 만료 색인 (세션 ID 를 만료 시각으로 정렬한 sorted set)
+-- ARGV[1] : 세션 ID
+-- ARGV[2] : 재발급을 요청한 JWT 의 jti (현재 토큰 쌍의 ID)
+-- ARGV[3] : 새 토큰 쌍의 ID
+-- ARGV[4] : 세션 만료 시각 (epoch 밀리초)
+-- ARGV[5] : 현재 시각 (epoch 밀리초)
+-- 반환값 : 교체했으면 1, 세션이 만료되었거나 없으면 0,
+--          이미 사용된 토큰이면 세션을 종료하고 -1
+
+-- 일치하지 않는 위치에 따라 실행 시간이 달라지지 않도록 모든 바이트를 비교합니다.
+local function constant_time_equals(a, b)
+    if not a or #a ~= #b then
+        return false
+    end
+
+    local diff = 0
+    for i = 1, #a do
+        diff = bit.bor(diff, bit.bxor(string.byte(a, i), string.byte(b, i)))
+    end
+
+    return diff == 0
+end
+
+local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if not expireAt or tonumber(expireAt) <= tonumber(ARGV[5]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('ZREM', KEYS[2], ARGV[1])
+    return 0
+end
+
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+    redis.call('ZREM', KEYS[2], ARGV[1])
+    return 0
+end
+
+-- 이미 교체된 토큰이 다시 사용되었으면 탈취된 것으로 보고 세션을 종료합니다.
+if not constant_time_equals(current, ARGV[2]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('ZREM', KEYS[2], ARGV[1])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1])
+
+local latest = redis.call('ZRANGE', KEYS[2], -1, -1, 'WITHSCORES')
+redis.call('PEXPIREAT', KEYS[1], latest[2])
+redis.call('PEXPIREAT', KEYS[2], latest[2])
+
+return 1
@@ -0,0 +1,34 @@
+-- 새 세션의 Refresh Token 을 저장합니다.
+-- 세션 ID 와 토큰 쌍의 ID 는 12 바이트 원본입니다.
+-- KEYS[1] : 회원 UUID (세션 ID -> 토큰 쌍의 ID 해시)
+-- KEYS[2] : 세션 만료 색인 (세션 ID 를 만료 시각으로 정렬한 sorted set)
+-- ARGV[1] : 세션 ID
+-- ARGV[2] : 토큰 쌍의 ID
+-- ARGV[3] : 세션 만료 시각 (epoch 밀리초)
+-- ARGV[4] : 현재 시각 (epoch 밀리초)
+-- ARGV[5] : 회원당 최대 세션 수
+-- 반환값 : 최대 세션 수를 넘어 삭제된 세션 수
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+if #expired > 0 then
+    redis.call('HDEL', KEYS[1], unpack(expired))
+    redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+
+local evicted = 0
+local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5])
+if overflow > 0 then
+    local oldest = redis.call('ZPOPMIN', KEYS[2], overflow)
+    for i = 1, #oldest, 2 do
+        redis.call('HDEL', KEYS[1], oldest[i])
+    end
+    evicted = overflow
+end
+
+local latest = redis.call('ZRANGE', KEYS[2], -1, -1, 'WITHSCORES')
+redis.call('PEXPIREAT', KEYS[1], latest[2])
+redis.call('PEXPIREAT', KEYS[2], latest[2])
+
+return evicted
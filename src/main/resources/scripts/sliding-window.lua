@@ -0,0 +1,21 @@
+-- 슬라이딩 윈도우로 요청 수를 제한합니다.
+-- KEYS[1] : 제한 대상 (요청 시각으로 정렬한 sorted set)
+-- ARGV[1] : 현재 시각 (epoch 밀리초)
+-- ARGV[2] : 윈도우 크기 (밀리초)
+-- ARGV[3] : 윈도우 안에서 허용할 최대 요청 수
+-- ARGV[4] : 이번 요청을 구분하는 값
+-- 반환값 : 허용하면 0, 거부하면 다시 요청할 수 있을 때까지 남은 시간 (밀리초)
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+
+if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    return math.max(tonumber(oldest[2]) + window - now, 1)
+end
+
+redis.call('ZADD', KEYS[1], now, ARGV[4])
+redis.call('PEXPIRE', KEYS[1], window)
+
+return 0
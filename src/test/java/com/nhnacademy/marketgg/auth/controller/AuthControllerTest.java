@@ -5,20 +5,34 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.marketgg.auth.aop.TokenAspect;
 import com.nhnacademy.marketgg.auth.config.WebSecurityConfig;
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
+import com.nhnacademy.marketgg.auth.dto.response.token.TokenIntrospectResponse;
+import com.nhnacademy.marketgg.auth.exception.RedisUnavailableException;
+import com.nhnacademy.marketgg.auth.jwt.RevokedTokenRegistry;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import com.nhnacademy.marketgg.auth.service.AuthService;
+import com.nhnacademy.marketgg.auth.util.RateLimiter;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,11 +42,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
@@ -42,7 +56,10 @@ import org.springframework.web.context.WebApplicationContext;
 @MockBean({
     AuthenticationManager.class,
     TokenUtils.class,
-    RedisTemplate.class
+    RevokedTokenRegistry.class,
+    RedisTemplate.class,
+    RedisCircuitBreaker.class,
+    RateLimiter.class
 })
 class AuthControllerTest {
 
@@ -95,10 +112,23 @@ class AuthControllerTest {
                .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("Redis 장애 시 JWT 갱신 요청은 바로 503 응답")
+    void testRenewTokenRedisUnavailable() throws Exception {
+        given(authService.renewToken("JWT-TOKEN")).willThrow(new RedisUnavailableException(10L, null));
+
+        mockMvc.perform(get("/members/token/refresh")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer JWT-TOKEN"))
+               .andExpect(status().isServiceUnavailable())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"));
+    }
+
     @Test
     @DisplayName("로그아웃")
     void testLogout() throws Exception {
-        String token = "JWT-TOKEN";
+        VerifiedToken token =
+            new VerifiedToken("JWT-TOKEN", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(), new Date());
+        given(tokenUtils.parseToken("JWT-TOKEN")).willReturn(Optional.of(token));
         doNothing().when(authService).logout(token);
 
         mockMvc.perform(get("/members/logout")
@@ -107,11 +137,32 @@ class AuthControllerTest {
         verify(authService, times(1)).logout(token);
     }
 
-    private String createToken(Authentication authentication, Date issueDate) {
-        ReflectionTestUtils.setField(tokenUtils, "key", Keys.hmacShaKeyFor(
-            Decoders.BASE64URL.decode("test-keytest-keytest-keytest-keytest-keytest-key")));
+    @Test
+    @DisplayName("JWT 일괄 검증")
+    void testIntrospect() throws Exception {
+        VerifiedToken token = new VerifiedToken("JWT-TOKEN", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+        given(authService.introspect(List.of("JWT-TOKEN", "INVALID")))
+            .willReturn(List.of(TokenIntrospectResponse.of(token, false), TokenIntrospectResponse.inactive()));
+
+        mockMvc.perform(post("/members/token/introspect")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(Map.of("tokens", List.of("JWT-TOKEN", "INVALID")))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.data[0].active").value(true))
+               .andExpect(jsonPath("$.data[0].uuid").value("uuid"))
+               .andExpect(jsonPath("$.data[0].authorities[0]").value("ROLE_USER"))
+               .andExpect(jsonPath("$.data[1].active").value(false));
+    }
 
-        return ReflectionTestUtils.invokeMethod(tokenUtils, "createToken", authentication, issueDate, (long) 60_000);
+    private String createToken(Authentication authentication, Date issueDate) {
+        return Jwts.builder()
+                   .setSubject(authentication.getName())
+                   .setIssuedAt(issueDate)
+                   .setExpiration(new Date(issueDate.getTime() + 60_000))
+                   .signWith(Keys.hmacShaKeyFor(
+                       Decoders.BASE64URL.decode("test-keytest-keytest-keytest-keytest-keytest-key")))
+                   .compact();
     }
 
 }
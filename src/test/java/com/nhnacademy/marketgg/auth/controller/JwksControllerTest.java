@@ -0,0 +1,68 @@
+package com.nhnacademy.marketgg.auth.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.nhnacademy.marketgg.auth.config.WebSecurityConfig;
+import com.nhnacademy.marketgg.auth.jwt.JsonWebKeys;
+import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.util.RateLimiter;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(JwksController.class)
+@Import(WebSecurityConfig.class)
+@MockBean({
+    AuthenticationManager.class,
+    RedisTemplate.class,
+    RedisCircuitBreaker.class,
+    RateLimiter.class,
+    UserDetailsService.class
+})
+class JwksControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    TokenUtils tokenUtils;
+
+    @Test
+    @DisplayName("JWK Set 조회")
+    void testGetJwks() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        ECPublicKey publicKey = (ECPublicKey) generator.generateKeyPair().getPublic();
+        String kid = JsonWebKeys.thumbprint(publicKey);
+
+        given(tokenUtils.getPublicJwks()).willReturn(List.of(JsonWebKeys.toEcPublicJwk(publicKey, kid)));
+
+        mockMvc.perform(get("/.well-known/jwks.json"))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+               .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+               .andExpect(jsonPath("$.keys[0].crv").value("P-256"))
+               .andExpect(jsonPath("$.keys[0].kid").value(kid))
+               .andExpect(jsonPath("$.keys[0].alg").value("ES256"))
+               .andDo(print());
+    }
+
+}
@@ -8,6 +8,8 @@ import com.nhnacademy.marketgg.auth.dto.response.signup.ExistEmailResponse;
 import com.nhnacademy.marketgg.auth.dto.response.signup.SignUpResponse;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
 import com.nhnacademy.marketgg.auth.service.SignUpService;
+import com.nhnacademy.marketgg.auth.util.RateLimiter;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,17 +17,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SignUpController.class)
@@ -33,7 +41,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @MockBean({
         AuthenticationManager.class,
         TokenUtils.class,
-        RedisTemplate.class
+        RedisTemplate.class,
+        RedisCircuitBreaker.class
 })
 class SignUpControllerTest {
 
@@ -49,6 +58,9 @@ class SignUpControllerTest {
     @MockBean
     PasswordEncoder passwordEncoder;
 
+    @MockBean
+    RateLimiter rateLimiter;
+
     @Test
     @DisplayName("회원가입 테스트")
     void testDoSignup() throws Exception {
@@ -77,8 +89,8 @@ class SignUpControllerTest {
         ReflectionTestUtils.setField(testEmailRequest, "email", "testEmail");
         ReflectionTestUtils.setField(testEmailRequest, "isReferrer", true);
 
-        when(signUpService.checkEmail(testEmailRequest))
-                .thenReturn(any(ExistEmailResponse.class));
+        when(signUpService.checkEmail(any(EmailRequest.class)))
+                .thenReturn(new ExistEmailResponse(false));
 
         mockMvc.perform(post("/members/check/email")
                        .contentType(APPLICATION_JSON)
@@ -87,6 +99,26 @@ class SignUpControllerTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("IP 별 인증 메일 요청 수 제한")
+    void testCheckEmailRateLimited() throws Exception {
+        EmailRequest testEmailRequest = new EmailRequest();
+
+        ReflectionTestUtils.setField(testEmailRequest, "email", "testEmail");
+        ReflectionTestUtils.setField(testEmailRequest, "isReferrer", false);
+
+        when(rateLimiter.tryAcquire(eq(RateLimiter.Policy.EMAIL_IP), anyString())).thenReturn(4_500L);
+
+        mockMvc.perform(post("/members/check/email")
+                       .contentType(APPLICATION_JSON)
+                       .content(mapper.writeValueAsString(testEmailRequest)))
+               .andExpect(status().isTooManyRequests())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+               .andDo(print());
+
+        verify(signUpService, never()).checkEmail(any());
+    }
+
     // TODO : 테스트 코드 로직수정 필요
     // @Test
     // @DisplayName("회원 이메일 중복체크 예외처리")
@@ -0,0 +1,104 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+class RevocationListenerTest {
+
+    RedisTemplate<String, Object> redisTemplate;
+    ZSetOperations<String, Object> zSetOperations;
+    RevokedTokenRegistry revokedTokenRegistry;
+    TokenEpochRegistry tokenEpochRegistry;
+    RevocationListener listener;
+    RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(50, 250, 10_000L, 50, 10);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        RedisSerializer<?> serializer = new Jackson2JsonRedisSerializer<>(String.class);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) serializer);
+        given(redisTemplate.hasKey(anyString())).willReturn(true);
+
+        tokenEpochRegistry =
+                new TokenEpochRegistry(redisTemplate, redisTemplate, redisCircuitBreaker, 120_000L, 10_000L, 100);
+        revokedTokenRegistry = new RevokedTokenRegistry(redisTemplate, redisTemplate,
+                                                        new VerifiedTokenCache(false, 0), tokenEpochRegistry,
+                                                        mock(TokenUtils.class), redisCircuitBreaker, 1000, 1000);
+        listener = new RevocationListener(redisTemplate, revokedTokenRegistry, tokenEpochRegistry);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 로그아웃한 토큰을 바로 반영")
+    void testTokenMessage() {
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+
+        listener.onMessage(message(RevocationListener.tokenMessage(token.getTokenId())), null);
+
+        assertThat(revokedTokenRegistry.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 변경한 epoch 를 바로 반영")
+    void testEpochMessage() {
+        long now = System.currentTimeMillis();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                new Date(now - 60_000L), new Date(now + 60_000L));
+        VerifiedToken other = new VerifiedToken("other-jwt", "other-jti", "sid", "other", Set.of(Roles.ROLE_USER),
+                                                new Date(now - 60_000L), new Date(now + 60_000L));
+
+        listener.onMessage(message(RevocationListener.epochMessage("uuid", now / 1000)), null);
+
+        assertThat(tokenEpochRegistry.isStale(token)).isTrue();
+        assertThat(tokenEpochRegistry.isStale(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("채널을 다시 구독하면 전체 동기화")
+    void testResubscribe() {
+        listener.onChannelSubscribed(RevocationListener.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        then(zSetOperations).should(times(2)).range("blacklist:index", 0, -1);
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 전체 동기화로 대체")
+    void testMalformedMessage() {
+        listener.onMessage(message("e:not-a-number:uuid"), null);
+
+        then(zSetOperations).should(times(2)).range("blacklist:index", 0, -1);
+    }
+
+    private Message message(String body) {
+        byte[] serialized = new Jackson2JsonRedisSerializer<>(String.class).serialize(body);
+
+        return new DefaultMessage(RevocationListener.CHANNEL.getBytes(StandardCharsets.UTF_8), serialized);
+    }
+
+}
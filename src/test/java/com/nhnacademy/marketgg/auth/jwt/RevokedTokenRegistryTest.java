@@ -0,0 +1,211 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+class RevokedTokenRegistryTest {
+
+    RedisTemplate<String, Object> redisTemplate;
+    ValueOperations<String, Object> valueOperations;
+    ZSetOperations<String, Object> zSetOperations;
+    TokenUtils tokenUtils;
+    RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(50, 250, 10_000L, 50, 10);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        tokenUtils = mock(TokenUtils.class);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 없는 토큰은 Redis 를 조회하지 않음")
+    void testIsRevokedWithoutRedis() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+
+        assertThat(registry.isRevoked(token)).isFalse();
+
+        then(redisTemplate).should(never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰 확인")
+    void testRevoke() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+        given(redisTemplate.hasKey("blacklist:" + token.getTokenId())).willReturn(true);
+
+        registry.revoke(token);
+
+        then(valueOperations).should().set(eq("blacklist:" + token.getTokenId()), eq(true), anyLong(),
+                                           eq(TimeUnit.MILLISECONDS));
+        then(zSetOperations).should().add(eq("blacklist:index"), eq(token.getTokenId()), anyDouble());
+        then(redisTemplate).should().convertAndSend("revocation", "t:" + token.getTokenId());
+        assertThat(registry.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 로그아웃한 토큰을 갱신 후 확인")
+    void testRefresh() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+        VerifiedToken other = new VerifiedToken("other", "other-jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                new Date(), new Date(System.currentTimeMillis() + 60_000L));
+        given(zSetOperations.range("blacklist:index", 0, -1)).willReturn(Set.of(token.getTokenId()));
+        given(redisTemplate.hasKey("blacklist:" + token.getTokenId())).willReturn(true);
+
+        registry.refresh();
+
+        assertThat(registry.isRevoked(token)).isTrue();
+        assertThat(registry.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("색인에 아직 반영되지 않은 로컬 폐기 토큰은 갱신 후에도 유지")
+    void testRefreshKeepsLocalRevocations() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+        registry.markRevoked(token.getTokenId());
+        given(zSetOperations.range("blacklist:index", 0, -1)).willReturn(Set.of());
+        given(redisTemplate.hasKey("blacklist:" + token.getTokenId())).willReturn(true);
+
+        registry.refresh();
+
+        assertThat(registry.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 토큰의 로그아웃 여부 확인")
+    void testFindRevoked() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken revoked = new VerifiedToken("revoked", "revoked-jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                  new Date(), new Date(System.currentTimeMillis() + 60_000L));
+        VerifiedToken active = new VerifiedToken("active", "active-jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                 new Date(), new Date(System.currentTimeMillis() + 60_000L));
+        registry.revoke(revoked);
+        given(valueOperations.multiGet(List.of("epoch:uuid"))).willReturn(Collections.singletonList(null));
+        given(valueOperations.multiGet(List.of("blacklist:" + revoked.getTokenId()))).willReturn(List.of(true));
+
+        assertThat(registry.findRevoked(List.of(active, revoked))).containsExactly("revoked");
+    }
+
+    @Test
+    @DisplayName("회원의 모든 토큰 폐기")
+    void testRevokeAll() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+
+        registry.revokeAll("uuid");
+
+        assertThat(registry.isRevoked(token)).isTrue();
+        assertThat(registry.findRevoked(List.of(token))).containsExactly("jwt");
+        then(redisTemplate).should(never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 로그아웃한 토큰은 로컬에 보관하고 복구 후 등록")
+    void testRevokeWhileRedisUnavailable() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+        willThrow(new RedisConnectionFailureException("down")).willDoNothing()
+                                                               .given(valueOperations)
+                                                               .set(anyString(), any(), anyLong(), any());
+
+        registry.revoke(token);
+
+        assertThat(registry.isRevoked(token)).isTrue();
+        then(redisTemplate).should(never()).hasKey(anyString());
+
+        registry.refresh();
+
+        then(valueOperations).should(times(2)).set(eq("blacklist:" + token.getTokenId()), eq(true), anyLong(),
+                                                   eq(TimeUnit.MILLISECONDS));
+        then(redisTemplate).should().convertAndSend("revocation", "t:" + token.getTokenId());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 로그아웃한 세션은 토큰이 만료된 뒤에도 재발급하지 못하고 복구 후 삭제")
+    void testDeleteSessionLaterAfterTokenExpired() throws Exception {
+        RevokedTokenRegistry registry = registry();
+        long now = System.currentTimeMillis();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(now),
+                                                new Date(now + 100L));
+        given(tokenUtils.getSessionExpiration(token)).willReturn(now + 60_000L);
+        willThrow(new RedisConnectionFailureException("down")).willDoNothing()
+                                                               .given(valueOperations)
+                                                               .set(anyString(), any(), anyLong(), any());
+
+        registry.deleteSessionLater(token);
+        registry.revoke(token);
+        TimeUnit.MILLISECONDS.sleep(200L);
+
+        assertThat(registry.isRevoked(token)).isTrue();
+        then(tokenUtils).should(never()).deleteRefreshToken(any(), anyString(), anyString());
+
+        registry.refresh();
+
+        then(tokenUtils).should().deleteRefreshToken(redisTemplate, "uuid", "sid");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 Bloom filter 에 걸린 토큰은 폐기된 것으로 간주")
+    void testIsRevokedFailClosed() {
+        RevokedTokenRegistry registry = registry();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+        VerifiedToken other = new VerifiedToken("other", "other-jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                new Date(), new Date(System.currentTimeMillis() + 60_000L));
+        registry.markRevoked(token.getTokenId());
+        given(redisTemplate.hasKey(anyString())).willThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(registry.isRevoked(token)).isTrue();
+        assertThat(registry.isRevoked(other)).isFalse();
+    }
+
+    private RevokedTokenRegistry registry() {
+        TokenEpochRegistry tokenEpochRegistry =
+                new TokenEpochRegistry(redisTemplate, redisTemplate, redisCircuitBreaker, 120_000L, 10_000L, 100);
+
+        return new RevokedTokenRegistry(redisTemplate, redisTemplate, new VerifiedTokenCache(false, 0),
+                                        tokenEpochRegistry, tokenUtils, redisCircuitBreaker, 1000, 1000);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class TokenEpochRegistryTest {
+
+    RedisTemplate<String, Object> redisTemplate;
+    ValueOperations<String, Object> valueOperations;
+    TokenEpochRegistry registry;
+    RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(50, 250, 10_000L, 50, 10);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        registry = new TokenEpochRegistry(redisTemplate, redisTemplate, redisCircuitBreaker, 120_000L, 10_000L, 100);
+    }
+
+    @Test
+    @DisplayName("epoch 이전에 발급된 토큰만 폐기")
+    void testRevokeAll() {
+        long now = System.currentTimeMillis();
+        VerifiedToken issued = new VerifiedToken("issued", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                 new Date(now), new Date(now + 60_000L));
+        VerifiedToken reissued = new VerifiedToken("reissued", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                   new Date(now + 2_000L), new Date(now + 60_000L));
+        VerifiedToken other = new VerifiedToken("other", "jti", "sid", "other", Set.of(Roles.ROLE_USER),
+                                                new Date(now), new Date(now + 60_000L));
+
+        registry.revokeAll("uuid");
+
+        then(valueOperations).should().set(eq("epoch:uuid"), anyString(), eq(120_000L), eq(TimeUnit.MILLISECONDS));
+        assertThat(registry.isStale(issued)).isTrue();
+        assertThat(registry.isStale(reissued)).isFalse();
+        assertThat(registry.isStale(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 변경한 epoch 를 한 번만 조회")
+    void testLoadEpoch() {
+        long now = System.currentTimeMillis();
+        given(valueOperations.get("epoch:uuid")).willReturn(String.valueOf(TimeUnit.MILLISECONDS.toSeconds(now)));
+
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                new Date(now - 60_000L), new Date(now + 60_000L));
+
+        assertThat(registry.isStale(token)).isTrue();
+        assertThat(registry.isStale(token)).isTrue();
+        then(valueOperations).should(times(1)).get("epoch:uuid");
+    }
+
+    @Test
+    @DisplayName("여러 토큰의 epoch 를 MGET 한 번으로 확인")
+    void testFindStale() {
+        long now = System.currentTimeMillis();
+        long epoch = TimeUnit.MILLISECONDS.toSeconds(now);
+        VerifiedToken stale = new VerifiedToken("stale-jwt", "jti", "sid", "stale", Set.of(Roles.ROLE_USER),
+                                                new Date(now - 60_000L), new Date(now + 60_000L));
+        VerifiedToken active = new VerifiedToken("active-jwt", "jti", "sid", "active", Set.of(Roles.ROLE_USER),
+                                                 new Date(now - 60_000L), new Date(now + 60_000L));
+        given(valueOperations.multiGet(List.of("epoch:stale", "epoch:active")))
+            .willReturn(Arrays.asList(String.valueOf(epoch), null));
+        given(valueOperations.multiGet(List.of("epoch:active", "epoch:stale")))
+            .willReturn(Arrays.asList(null, String.valueOf(epoch)));
+
+        assertThat(registry.findStale(List.of(stale, active))).containsExactly(stale.getJwt());
+    }
+
+}
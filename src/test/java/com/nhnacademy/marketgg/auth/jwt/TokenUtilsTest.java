@@ -0,0 +1,251 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.client.RestTemplate;
+
+class TokenUtilsTest {
+
+    private static final String SECRET = "test-keytest-keytest-keytest-keytest-keytest-key";
+    private static final String NEW_SECRET = "next-keynext-keynext-keynext-keynext-keynext-key";
+
+    private final Authentication authentication =
+        new UsernamePasswordAuthenticationToken("uuid", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    @Test
+    @DisplayName("HS256 토큰 생성 및 파싱")
+    void testParseHs256Token() {
+        TokenUtils tokenUtils = tokenUtils("HS256", SECRET);
+
+        String jwt = tokenUtils.generateJwt(authentication, new Date());
+
+        assertThat(tokenUtils.parseToken(jwt)).hasValueSatisfying(token -> {
+            assertThat(token.getUuid()).isEqualTo("uuid");
+            assertThat(token.getRoles()).containsExactly(Roles.ROLE_USER);
+        });
+        assertThat(tokenUtils.getPublicJwks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰마다 짧은 jti 발급")
+    void testTokenId() {
+        TokenUtils tokenUtils = tokenUtils("HS256", SECRET);
+        Date issuedAt = new Date();
+
+        VerifiedToken first = tokenUtils.parseToken(tokenUtils.generateJwt(authentication, issuedAt)).orElseThrow();
+        VerifiedToken second = tokenUtils.parseToken(tokenUtils.generateJwt(authentication, issuedAt)).orElseThrow();
+
+        assertThat(first.getJti()).hasSize(16);
+        assertThat(first.getTokenId()).isEqualTo(first.getJti())
+                                      .isNotEqualTo(second.getTokenId());
+    }
+
+    @Test
+    @DisplayName("세션별 Refresh Token 저장 후 JWT 와 짝인 Refresh Token 만 교체")
+    @SuppressWarnings("unchecked")
+    void testRotateRefreshToken() {
+        TokenUtils tokenUtils = tokenUtils("HS256", SECRET);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        List<String> keys = List.of("uuid", "sessions:{uuid}");
+
+        TokenResponse first = tokenUtils.saveRefreshToken(redisTemplate, authentication);
+        TokenResponse second = tokenUtils.saveRefreshToken(redisTemplate, authentication);
+        VerifiedToken token = tokenUtils.parseToken(first.getJwt()).orElseThrow();
+
+        assertThat(token.getSessionId()).isNotNull()
+                                        .isNotEqualTo(tokenUtils.parseToken(second.getJwt())
+                                                                .orElseThrow()
+                                                                .getSessionId());
+        then(redisTemplate).should().execute(any(RedisScript.class), any(RedisSerializer.class), any(), eq(keys),
+                                             aryEq(raw(token.getSessionId())), aryEq(raw(token.getJti())), any(),
+                                             any(), aryEq("5".getBytes(StandardCharsets.UTF_8)));
+
+        given(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(), eq(keys),
+                                    aryEq(raw(token.getSessionId())), aryEq(raw(token.getJti())), any(), any(),
+                                    any()))
+            .willReturn(1L);
+
+        assertThat(tokenUtils.rotateRefreshToken(redisTemplate, token)).hasValueSatisfying(renewed -> {
+            VerifiedToken renewedToken = tokenUtils.parseToken(renewed.getJwt()).orElseThrow();
+            assertThat(renewedToken.getJti()).isNotEqualTo(token.getJti());
+            assertThat(renewedToken.getSessionId()).isEqualTo(token.getSessionId());
+        });
+        assertThat(tokenUtils.rotateRefreshToken(redisTemplate, tokenUtils.parseToken(
+            tokenUtils.generateJwt(authentication, new Date())).orElseThrow())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 생성 및 공개키 제공")
+    void testParseEs256Token() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        String secret = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded())
+            + ":" + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+
+        TokenUtils tokenUtils = tokenUtils("ES256", secret);
+
+        String jwt = tokenUtils.generateJwt(authentication, new Date());
+
+        assertThat(tokenUtils.parseToken(jwt)).isPresent();
+        assertThat(tokenUtils.getPublicJwks()).singleElement()
+                                              .satisfies(jwk -> assertThat(jwk).containsEntry("alg", "ES256"));
+        assertThat(tokenUtils(SECRET).parseToken(jwt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 파싱")
+    void testParseExpiredToken() {
+        TokenUtils tokenUtils = tokenUtils("HS256", SECRET);
+
+        String jwt = tokenUtils.generateJwt(authentication, new Date(System.currentTimeMillis() - 120_000L));
+
+        assertThat(tokenUtils.parseToken(jwt)).isEmpty();
+        assertThat(tokenUtils.parseExpiredToken(jwt).getUuid()).isEqualTo("uuid");
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 서명한 토큰 검증")
+    void testKeyRotation() {
+        RestTemplate restTemplate = secretRestTemplate(SECRET);
+        JwtKeyringProvider keyringProvider = keyringProvider(restTemplate, "HS256");
+        TokenUtils tokenUtils = new TokenUtils(keyringProvider, 60_000L, 120_000L, true, 5,
+                                               new VerifiedTokenCache(false, 0));
+        String oldJwt = tokenUtils.generateJwt(authentication, new Date());
+
+        givenSecret(restTemplate, NEW_SECRET + "," + SECRET);
+        keyringProvider.refresh();
+        String newJwt = tokenUtils.generateJwt(authentication, new Date());
+
+        assertThat(tokenUtils.parseToken(oldJwt)).isPresent();
+        assertThat(tokenUtils.parseToken(newJwt)).isPresent();
+        assertThat(tokenUtils(NEW_SECRET).parseToken(newJwt)).isPresent();
+        assertThat(tokenUtils(SECRET).parseToken(newJwt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키링 갱신 실패 시 기존 키 유지")
+    void testKeyRefreshFailure() {
+        RestTemplate restTemplate = secretRestTemplate(SECRET);
+        JwtKeyringProvider keyringProvider = keyringProvider(restTemplate, "HS256");
+        JwtKeyring keyring = keyringProvider.getKeyring();
+
+        givenSecret(restTemplate, "");
+        keyringProvider.refresh();
+
+        assertThat(keyringProvider.getKeyring()).isSameAs(keyring);
+    }
+
+    @Test
+    @DisplayName("권한을 비트마스크로 기록")
+    void testCompactAuthorities() {
+        TokenUtils tokenUtils = tokenUtils(SECRET);
+        Authentication admin = new UsernamePasswordAuthenticationToken(
+            "uuid", "", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")));
+
+        String jwt = tokenUtils.generateJwt(admin, new Date());
+        Claims claims = Jwts.parserBuilder()
+                            .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET)))
+                            .build()
+                            .parseClaimsJws(jwt)
+                            .getBody();
+
+        assertThat(claims).containsEntry("rol", 3)
+                          .doesNotContainKey("AUTHORITIES");
+        assertThat(tokenUtils.parseToken(jwt)).hasValueSatisfying(
+            token -> assertThat(token.getRoles()).containsExactlyInAnyOrder(Roles.ROLE_ADMIN, Roles.ROLE_USER));
+    }
+
+    @Test
+    @DisplayName("권한 이름 배열로 발급된 기존 토큰 검증")
+    void testLegacyAuthorities() {
+        TokenUtils tokenUtils = tokenUtils(SECRET);
+
+        String jwt = Jwts.builder()
+                         .setSubject("uuid")
+                         .claim("AUTHORITIES", List.of("ROLE_ADMIN"))
+                         .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                         .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET)))
+                         .compact();
+
+        assertThat(tokenUtils.parseToken(jwt)).hasValueSatisfying(
+            token -> assertThat(token.getRoles()).containsExactly(Roles.ROLE_ADMIN));
+    }
+
+    @Test
+    @DisplayName("kid 가 없는 기존 토큰 검증")
+    void testParseTokenWithoutKid() {
+        TokenUtils tokenUtils = tokenUtils(SECRET);
+
+        String jwt = Jwts.builder()
+                         .setSubject("uuid")
+                         .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                         .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET)))
+                         .compact();
+
+        assertThat(tokenUtils.parseToken(jwt)).isPresent();
+    }
+
+    private byte[] raw(String id) {
+        return Base64.getUrlDecoder().decode(id);
+    }
+
+    private TokenUtils tokenUtils(String secret) {
+        return tokenUtils("HS256", secret);
+    }
+
+    private TokenUtils tokenUtils(String algorithm, String secret) {
+        return new TokenUtils(keyringProvider(secretRestTemplate(secret), algorithm), 60_000L, 120_000L, true, 5,
+                              new VerifiedTokenCache(false, 0));
+    }
+
+    private JwtKeyringProvider keyringProvider(RestTemplate restTemplate, String algorithm) {
+        return new JwtKeyringProvider(restTemplate, "secret-url", algorithm, "key-pair-url",
+                                      new VerifiedTokenCache(false, 0));
+    }
+
+    private RestTemplate secretRestTemplate(String secret) {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        givenSecret(restTemplate, secret);
+
+        return restTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSecret(RestTemplate restTemplate, String secret) {
+        given(restTemplate.exchange(any(String.class), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+            .willReturn(ResponseEntity.ok(Map.of("body", Map.of("secret", secret))));
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import java.util.Date;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    @DisplayName("검증된 토큰 캐시 조회")
+    void testGet() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10);
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 60_000L));
+
+        cache.put(token);
+
+        assertThat(cache.get("jwt")).containsSame(token);
+        assertThat(cache.get("other")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시하지 않음")
+    void testExpiredToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10);
+
+        cache.put(new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                    new Date(System.currentTimeMillis() - 1000L)));
+
+        assertThat(cache.get("jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 등록 시 캐시에서 제거")
+    void testInvalidate() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10);
+        cache.put(new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                    new Date(System.currentTimeMillis() + 60_000L)));
+
+        cache.invalidate("jwt");
+
+        assertThat(cache.get("jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화")
+    void testDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 10);
+
+        cache.put(new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                    new Date(System.currentTimeMillis() + 60_000L)));
+
+        assertThat(cache.get("jwt")).isEmpty();
+    }
+
+}
@@ -1,12 +1,18 @@
 package com.nhnacademy.marketgg.auth.repository;
 
 import com.nhnacademy.marketgg.auth.constant.Provider;
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import com.nhnacademy.marketgg.auth.dto.request.signup.EmailRequest;
 import com.nhnacademy.marketgg.auth.dto.request.signup.SignUpRequest;
 import com.nhnacademy.marketgg.auth.dto.response.AdminMemberResponse;
 import com.nhnacademy.marketgg.auth.dto.response.MemberNameResponse;
 import com.nhnacademy.marketgg.auth.entity.Auth;
+import com.nhnacademy.marketgg.auth.entity.AuthRole;
+import com.nhnacademy.marketgg.auth.entity.Role;
+import com.nhnacademy.marketgg.auth.jwt.CustomUser;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
+import com.nhnacademy.marketgg.auth.repository.authrole.AuthRoleRepository;
+import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +25,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +36,12 @@ class AuthRepositoryTest {
     @Autowired
     AuthRepository authRepository;
 
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    AuthRoleRepository authRoleRepository;
+
     SignUpRequest testSignUpRequest;
 
     @BeforeEach
@@ -119,6 +132,32 @@ class AuthRepositoryTest {
         assertThat(members).hasSize(20);
     }
 
+    @DisplayName("로그인 사용자 정보와 권한을 한 번에 조회")
+    @Test
+    void testFindLoginUserByEmail() {
+        Auth auth = authRepository.save(new Auth(getSignUpRequest(200)));
+
+        Role admin = new Role(Roles.ROLE_ADMIN);
+        ReflectionTestUtils.setField(admin, "id", 0L);
+        Role user = new Role(Roles.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        roleRepository.saveAll(List.of(admin, user));
+
+        authRoleRepository.saveAll(List.of(new AuthRole(new AuthRole.Pk(auth.getId(), admin.getId()), auth, admin),
+                                           new AuthRole(new AuthRole.Pk(auth.getId(), user.getId()), auth, user)));
+
+        CustomUser loginUser = authRepository.findLoginUserByEmail(auth.getEmail())
+                                             .orElseThrow();
+
+        Assertions.assertAll(
+            () -> assertThat(loginUser.getUsername()).isEqualTo(auth.getUuid()),
+            () -> assertThat(loginUser.getPassword()).isEqualTo(auth.getPassword()),
+            () -> assertThat(loginUser.isWithdraw()).isFalse(),
+            () -> assertThat(loginUser.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                                        .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER"));
+        assertThat(authRepository.findLoginUserByEmail("none@gmail.com")).isEmpty();
+    }
+
     private SignUpRequest getSignUpRequest(int i) {
         SignUpRequest signUpRequest = new SignUpRequest();
 
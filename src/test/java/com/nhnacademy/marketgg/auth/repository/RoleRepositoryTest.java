@@ -57,6 +57,23 @@ class RoleRepositoryTest {
         assertThat(rolesByAuthId).hasSize(2);
     }
 
+    @Test
+    @DisplayName("회원의 권한 번호 조회")
+    void testFindRoleIdsByAuthId() {
+        Auth auth = getAuth();
+
+        authRepository.save(auth);
+
+        Role role = new Role(Roles.ROLE_USER);
+        ReflectionTestUtils.setField(role, "id", 1L);
+
+        roleRepository.save(role);
+
+        authRoleRepository.save(new AuthRole(new AuthRole.Pk(auth.getId(), role.getId()), auth, role));
+
+        assertThat(roleRepository.findRoleIdsByAuthId(auth.getId())).containsExactly(1L);
+    }
+
     private Auth getAuth() {
         SignUpRequest signUpRequest = new SignUpRequest();
         Auth auth = new Auth(signUpRequest);
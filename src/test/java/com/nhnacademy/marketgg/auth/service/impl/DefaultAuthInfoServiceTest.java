@@ -3,23 +3,36 @@ package com.nhnacademy.marketgg.auth.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.dto.request.AuthWithDrawRequest;
+import com.nhnacademy.marketgg.auth.dto.request.MemberUpdateRequest;
 import com.nhnacademy.marketgg.auth.dto.response.AdminMemberResponse;
 import com.nhnacademy.marketgg.auth.dto.response.MemberInfoResponse;
 import com.nhnacademy.marketgg.auth.dto.response.MemberNameResponse;
 import com.nhnacademy.marketgg.auth.dto.response.MemberResponse;
+import com.nhnacademy.marketgg.auth.dto.response.UuidTokenResponse;
 import com.nhnacademy.marketgg.auth.dto.response.common.PageEntity;
+import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
 import com.nhnacademy.marketgg.auth.entity.Auth;
+import com.nhnacademy.marketgg.auth.jwt.RevokedTokenRegistry;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
 import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import com.nhnacademy.marketgg.auth.util.RoleCatalog;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -27,12 +40,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultAuthInfoServiceTest {
@@ -49,21 +64,33 @@ class DefaultAuthInfoServiceTest {
     @Mock
     RoleRepository roleRepository;
 
+    @Mock
+    RoleCatalog roleCatalog;
+
     @Mock
     RedisTemplate<String, Object> redisTemplate;
 
+    @Mock
+    RevokedTokenRegistry revokedTokenRegistry;
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    @Spy
+    RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(50, 250, 10_000L, 50, 10);
+
     @Test
     @DisplayName("UUID 를 이용하여 사용자 찾기")
     void testFindAuthByUuid() {
 
         String uuid = UUID.randomUUID().toString();
-        String token = "jwt";
+        VerifiedToken token =
+            new VerifiedToken("jwt", "jti", "sid", uuid, Set.of(Roles.ROLE_USER), new Date(), new Date());
         Auth auth = mock(Auth.class);
         given(auth.getEmail()).willReturn("email@gmail.com");
         given(auth.getName()).willReturn("홍길동");
         given(auth.getPhoneNumber()).willReturn("01012341234");
 
-        given(tokenUtils.getUuidFromToken(token)).willReturn(uuid);
         given(authRepository.findByUuid(uuid)).willReturn(Optional.of(auth));
 
         MemberResponse memberResponse = authInfoService.findAuthByUuid(token);
@@ -71,7 +98,6 @@ class DefaultAuthInfoServiceTest {
         assertThat(memberResponse).isNotNull();
         assertThat(memberResponse.getEmail()).isEqualTo(auth.getEmail());
 
-        then(tokenUtils).should(times(1)).getUuidFromToken(token);
         then(authRepository).should(times(1)).findByUuid(uuid);
     }
 
@@ -126,4 +152,59 @@ class DefaultAuthInfoServiceTest {
         assertThat(adminMembers).isNotNull();
     }
 
+    @Test
+    @DisplayName("회원정보 수정 시 모든 토큰 폐기 후 회원의 현재 권한으로 재발급")
+    void testUpdate() {
+        VerifiedToken token =
+            new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(), new Date());
+        MemberUpdateRequest request = mock(MemberUpdateRequest.class);
+        Auth auth = mock(Auth.class);
+        TokenResponse tokenResponse = mock(TokenResponse.class);
+
+        given(authRepository.findByUuid("uuid")).willReturn(Optional.of(auth));
+        given(auth.getId()).willReturn(1L);
+        given(auth.updateAuth(request, passwordEncoder)).willReturn("updated-uuid");
+        given(roleRepository.findRoleIdsByAuthId(1L)).willReturn(List.of(1L, 2L));
+        given(roleCatalog.getNames(List.of(1L, 2L))).willReturn(Set.of(Roles.ROLE_ADMIN, Roles.ROLE_USER));
+        given(tokenUtils.saveRefreshToken(eq(redisTemplate), any())).willReturn(tokenResponse);
+
+        UuidTokenResponse response = authInfoService.update(token, request);
+
+        assertThat(response.getUpdatedUuid()).isEqualTo("updated-uuid");
+        then(tokenUtils).should().deleteRefreshTokens(redisTemplate, "uuid");
+        then(revokedTokenRegistry).should().revokeAll("uuid");
+        then(tokenUtils).should().saveRefreshToken(eq(redisTemplate), argThat(
+            authentication -> authentication.getName().equals("updated-uuid")
+                && authentication.getAuthorities().size() == 2));
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 시 모든 토큰 폐기")
+    void testWithdraw() {
+        VerifiedToken token =
+            new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(), new Date());
+        AuthWithDrawRequest request = mock(AuthWithDrawRequest.class);
+        Auth auth = mock(Auth.class);
+
+        given(authRepository.findByUuid("uuid")).willReturn(Optional.of(auth));
+
+        authInfoService.withdraw(token, request);
+
+        then(auth).should().deleteAuth(request, passwordEncoder);
+        then(tokenUtils).should().deleteRefreshTokens(redisTemplate, "uuid");
+        then(revokedTokenRegistry).should().revokeAll("uuid");
+    }
+
+    @Test
+    @DisplayName("관리자 권한 확인")
+    void testIsAdmin() {
+        VerifiedToken admin = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_ADMIN, Roles.ROLE_USER),
+                                                new Date(), new Date());
+        VerifiedToken user =
+            new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(), new Date());
+
+        assertThat(authInfoService.isAdmin(admin)).isTrue();
+        assertThat(authInfoService.isAdmin(user)).isFalse();
+    }
+
 }
@@ -7,18 +7,26 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.nhnacademy.marketgg.auth.config.WebSecurityConfig;
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
-import com.nhnacademy.marketgg.auth.entity.Auth;
+import com.nhnacademy.marketgg.auth.dto.response.token.TokenIntrospectResponse;
+import com.nhnacademy.marketgg.auth.jwt.RevokedTokenRegistry;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
-import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
+import com.nhnacademy.marketgg.auth.jwt.VerifiedToken;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
 import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
@@ -26,13 +34,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 
 @ExtendWith(MockitoExtension.class)
 @Import({
@@ -50,57 +57,56 @@ class DefaultAuthServiceTest {
     TokenUtils tokenUtils;
 
     @Mock
-    AuthRepository authRepository;
+    RevokedTokenRegistry revokedTokenRegistry;
+
+    @Spy
+    RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(50, 250, 10_000L, 50, 10);
 
     @Test
     @DisplayName("로그아웃")
     void testLogout() {
-        String jwt = "jwt";
         String uuid = UUID.randomUUID().toString();
-
-        given(tokenUtils.getUuidFromToken(jwt)).willReturn(uuid);
-        lenient().when(tokenUtils.isInvalidToken(jwt)).thenReturn(false);
-
-        HashOperations<String, Object, Object> mockHash
-            = mock(HashOperations.class);
-
-        given(redisTemplate.opsForHash()).willReturn(mockHash);
-        given(mockHash.delete(uuid, TokenUtils.REFRESH_TOKEN)).willReturn(0L);
-
-        lenient().when(tokenUtils.getExpireDate(jwt)).thenReturn(System.currentTimeMillis() + 1000L);
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", uuid, Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 1000L));
 
         ValueOperations<String, Object> mockValue = mock(ValueOperations.class);
         lenient().when(redisTemplate.opsForValue()).thenReturn(mockValue);
         lenient().doNothing().when(mockValue).set(anyString(), anyBoolean(), anyLong(), any(TimeUnit.class));
 
-        authService.logout(jwt);
+        authService.logout(token);
 
-        then(mockHash).should(times(1)).delete(uuid, TokenUtils.REFRESH_TOKEN);
-        then(tokenUtils).should(times(1)).setBlackList(any(RedisTemplate.class), anyString());
+        then(tokenUtils).should(times(1)).deleteRefreshToken(redisTemplate, token);
+        then(revokedTokenRegistry).should(times(1)).revoke(token);
     }
 
     @Test
-    @DisplayName("만료된 토큰을 가진 사용자가 로그아웃")
-    void testLogoutWithInvalidJWT() {
-        String jwt = "jwt";
-        String uuid = UUID.randomUUID().toString();
+    @DisplayName("Redis 장애 중 로그아웃하면 세션 삭제를 복구 후로 미룸")
+    void testLogoutWhileRedisUnavailable() {
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() + 1000L));
+        willThrow(new RedisConnectionFailureException("down")).given(tokenUtils)
+                                                               .deleteRefreshToken(redisTemplate, token);
 
-        given(tokenUtils.getUuidFromToken(jwt)).willReturn(uuid);
-        lenient().when(tokenUtils.isInvalidToken(jwt)).thenReturn(true);
+        authService.logout(token);
 
-        HashOperations<String, Object, Object> mockHash
-            = mock(HashOperations.class);
+        then(revokedTokenRegistry).should().deleteSessionLater(token);
+        then(revokedTokenRegistry).should().revoke(token);
+    }
 
-        given(redisTemplate.opsForHash()).willReturn(mockHash);
-        given(mockHash.delete(uuid, TokenUtils.REFRESH_TOKEN)).willReturn(0L);
+    @Test
+    @DisplayName("만료된 토큰을 가진 사용자가 로그아웃")
+    void testLogoutWithInvalidJWT() {
+        String uuid = UUID.randomUUID().toString();
+        VerifiedToken token = new VerifiedToken("jwt", "jti", "sid", uuid, Set.of(Roles.ROLE_USER), new Date(),
+                                                new Date(System.currentTimeMillis() - 1000L));
 
         ValueOperations<String, Object> mockValue = mock(ValueOperations.class);
         lenient().when(redisTemplate.opsForValue()).thenReturn(mockValue);
         lenient().doNothing().when(mockValue).set(any(), anyBoolean(), anyLong(), any(TimeUnit.class));
 
-        authService.logout(jwt);
+        authService.logout(token);
 
-        verify(mockHash).delete(uuid, TokenUtils.REFRESH_TOKEN);
+        verify(tokenUtils).deleteRefreshToken(redisTemplate, token);
     }
 
     @Test
@@ -108,58 +114,66 @@ class DefaultAuthServiceTest {
     void testRenewToken() {
         String uuid = UUID.randomUUID().toString();
         String jwt = "jwt";
-        String refreshToken = "refreshToken";
-        Auth auth = mock(Auth.class);
-
-        given(tokenUtils.getUuidFromToken(jwt)).willReturn(uuid);
-        given(authRepository.findByUuid(anyString())).willReturn(Optional.of(auth));
-        given(auth.isWithdraw()).willReturn(false);
-
-        HashOperations<String, Object, Object> mockHash
-            = mock(HashOperations.class);
-        given(redisTemplate.opsForHash()).willReturn(mockHash);
-        given(mockHash.get(uuid, TokenUtils.REFRESH_TOKEN)).willReturn(refreshToken);
-
-        given(tokenUtils.isInvalidToken(refreshToken)).willReturn(false);
-        given(tokenUtils.getUuidFromToken(refreshToken)).willReturn(uuid);
-
-        given(mockHash.delete(uuid, TokenUtils.REFRESH_TOKEN)).willReturn(0L);
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(uuid, "");
-
         LocalDateTime now = LocalDateTime.now();
-        given(tokenUtils.getAuthenticationFromExpiredToken(jwt, uuid)).willReturn(authentication);
-        given(tokenUtils.saveRefreshToken(redisTemplate, authentication)).willReturn(
-            new TokenResponse(jwt, now));
 
-        TokenResponse tokenResponse = authService.renewToken(jwt);
+        VerifiedToken expiredToken = new VerifiedToken("jwt", "jti", "sid", uuid, Set.of(Roles.ROLE_USER), new Date(),
+                                                       new Date(System.currentTimeMillis() - 1000L));
+        given(tokenUtils.parseExpiredToken(jwt)).willReturn(expiredToken);
+        given(tokenUtils.rotateRefreshToken(redisTemplate, expiredToken))
+            .willReturn(Optional.of(new TokenResponse(jwt, now)));
 
-        verify(mockHash, times(1)).delete(uuid, TokenUtils.REFRESH_TOKEN);
-        verify(mockHash, times(1)).get(uuid, TokenUtils.REFRESH_TOKEN);
+        TokenResponse tokenResponse = authService.renewToken(jwt);
 
         assertThat(tokenResponse.getJwt()).isEqualTo(jwt);
         assertThat(tokenResponse.getExpiredDate().toString()).hasToString(now.toString());
     }
 
     @Test
-    @DisplayName("토큰 재발급 시 리프레시 토큰 만료로 재발급 못받음")
+    @DisplayName("토큰 재발급 시 이미 사용된 리프레시 토큰으로 재발급 못받음")
     void testRenewTokenFail() {
         String uuid = UUID.randomUUID().toString();
         String jwt = "jwt";
-        String refreshToken = "refreshToken";
-
-        given(tokenUtils.getUuidFromToken(jwt)).willReturn(uuid);
 
-        HashOperations<String, Object, Object> mockHash
-            = mock(HashOperations.class);
-        given(redisTemplate.opsForHash()).willReturn(mockHash);
-        given(mockHash.get(uuid, TokenUtils.REFRESH_TOKEN)).willReturn(refreshToken);
-
-        lenient().when(tokenUtils.isInvalidToken(refreshToken)).thenReturn(true);
+        VerifiedToken expiredToken = new VerifiedToken("jwt", "jti", "sid", uuid, Set.of(Roles.ROLE_USER), new Date(),
+                                                       new Date(System.currentTimeMillis() - 1000L));
+        given(tokenUtils.parseExpiredToken(jwt)).willReturn(expiredToken);
+        given(tokenUtils.rotateRefreshToken(redisTemplate, expiredToken)).willReturn(Optional.empty());
 
         TokenResponse tokenResponse = authService.renewToken(jwt);
 
         assertThat(tokenResponse).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("폐기된 토큰으로 재발급 못받음")
+    void testRenewRevokedToken() {
+        VerifiedToken expiredToken = new VerifiedToken("jwt", "jti", "sid", "uuid", Set.of(Roles.ROLE_USER), new Date(),
+                                                       new Date(System.currentTimeMillis() - 1000L));
+        given(tokenUtils.parseExpiredToken("jwt")).willReturn(expiredToken);
+        given(revokedTokenRegistry.isRevoked(expiredToken)).willReturn(true);
+
+        assertThat(authService.renewToken("jwt")).isNull();
+        then(tokenUtils).should(never()).rotateRefreshToken(any(), any());
+    }
+
+    @Test
+    @DisplayName("JWT 일괄 검증")
+    void testIntrospect() {
+        VerifiedToken active = new VerifiedToken("jwt", "jti", "sid", "active-uuid", Set.of(Roles.ROLE_USER),
+                                                 new Date(), new Date(System.currentTimeMillis() + 1000L));
+        VerifiedToken revoked = new VerifiedToken("revoked", "revoked-jti", "sid", "uuid", Set.of(Roles.ROLE_USER),
+                                                  new Date(), new Date(System.currentTimeMillis() + 1000L));
+
+        given(tokenUtils.parseToken("jwt")).willReturn(Optional.of(active));
+        given(tokenUtils.parseToken("revoked")).willReturn(Optional.of(revoked));
+        given(tokenUtils.parseToken("invalid")).willReturn(Optional.empty());
+        given(revokedTokenRegistry.findRevoked(List.of(active, revoked))).willReturn(Set.of("revoked"));
+
+        List<TokenIntrospectResponse> responses = authService.introspect(List.of("jwt", "invalid", "revoked"));
+
+        assertThat(responses).extracting(TokenIntrospectResponse::isActive).containsExactly(true, false, false);
+        assertThat(responses).extracting(TokenIntrospectResponse::isRevoked).containsExactly(false, false, true);
+        assertThat(responses.get(0).getUuid()).isEqualTo(active.getUuid());
+    }
+
+}
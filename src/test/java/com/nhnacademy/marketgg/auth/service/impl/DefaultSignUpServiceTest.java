@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -20,9 +21,9 @@ import com.nhnacademy.marketgg.auth.entity.Role;
 import com.nhnacademy.marketgg.auth.exception.EmailOverlapException;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
 import com.nhnacademy.marketgg.auth.repository.authrole.AuthRoleRepository;
-import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
 import com.nhnacademy.marketgg.auth.util.MailUtils;
 import com.nhnacademy.marketgg.auth.util.RedisUtils;
+import com.nhnacademy.marketgg.auth.util.RoleCatalog;
 import java.util.Optional;
 import javax.management.relation.RoleNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +33,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisInvalidSubscriptionException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -54,7 +56,7 @@ class DefaultSignUpServiceTest {
     AuthRoleRepository authRoleRepository;
 
     @Mock
-    RoleRepository roleRepository;
+    RoleCatalog roleCatalog;
 
     @Mock
     MailUtils mailUtils;
@@ -82,7 +84,7 @@ class DefaultSignUpServiceTest {
         Long authNo = auth.getId();
         Role role = new Role(Roles.ROLE_USER);
         ReflectionTestUtils.setField(role, "id", 0L);
-        given(roleRepository.findByName(Roles.ROLE_USER)).willReturn(Optional.of(role));
+        given(roleCatalog.getRole(Roles.ROLE_USER)).willReturn(Optional.of(role));
 
         AuthRole.Pk pk = new AuthRole.Pk(authNo, role.getId());
         AuthRole authRole = new AuthRole(pk, auth, role);
@@ -93,7 +95,7 @@ class DefaultSignUpServiceTest {
 
         verify(authRepository, times(1)).save(any(auth.getClass()));
         // getDeclaringClass() 메서드는 이 클래스의 선언 클래스를 가져오는 데 사용됨.
-        verify(roleRepository, times(1)).findByName(any(Roles.ROLE_USER.getDeclaringClass()));
+        verify(roleCatalog, times(1)).getRole(any(Roles.ROLE_USER.getDeclaringClass()));
         verify(authRoleRepository, times(1)).save(any(authRole.getClass()));
     }
 
@@ -114,7 +116,7 @@ class DefaultSignUpServiceTest {
         Long referrerNo = referrerAuth.getId();
         Role referrerRole = new Role(Roles.ROLE_USER);
         ReflectionTestUtils.setField(referrerRole, "id", 0L);
-        given(roleRepository.findByName(Roles.ROLE_USER)).willReturn(Optional.of(referrerRole));
+        given(roleCatalog.getRole(Roles.ROLE_USER)).willReturn(Optional.of(referrerRole));
 
         AuthRole.Pk referrerPk = new AuthRole.Pk(referrerNo, referrerRole.getId());
         AuthRole referrerAuthRole = new AuthRole(referrerPk, referrerAuth, referrerRole);
@@ -137,7 +139,7 @@ class DefaultSignUpServiceTest {
         Long authNo = auth.getId();
         Role role = new Role(Roles.ROLE_USER);
         ReflectionTestUtils.setField(role, "id", 0L);
-        given(roleRepository.findByName(Roles.ROLE_USER)).willReturn(Optional.of(role));
+        given(roleCatalog.getRole(Roles.ROLE_USER)).willReturn(Optional.of(role));
 
         AuthRole.Pk pk = new AuthRole.Pk(authNo, role.getId());
         AuthRole authRole = new AuthRole(pk, auth, role);
@@ -150,7 +152,7 @@ class DefaultSignUpServiceTest {
 
         verify(authRepository, times(1)).save(any(auth.getClass()));
         // getDeclaringClass() 메서드는 이 클래스의 선언 클래스를 가져오는 데 사용됨.
-        verify(roleRepository, times(1)).findByName(any(Roles.ROLE_USER.getDeclaringClass()));
+        verify(roleCatalog, times(1)).getRole(any(Roles.ROLE_USER.getDeclaringClass()));
         verify(authRoleRepository, times(1)).save(any(authRole.getClass()));
     }
 
@@ -192,8 +194,7 @@ class DefaultSignUpServiceTest {
     void testExistsEmail() {
         given(authRepository.existsByEmail(any())).willReturn(false);
         given(mailUtils.sendMail(any())).willReturn(true);
-
-        doNothing().when(redisUtils).set(any(), any());
+        given(redisUtils.setIfAbsent(any(), any())).willReturn(true);
 
         EmailRequest testEmailRequest = new EmailRequest();
 
@@ -203,6 +204,42 @@ class DefaultSignUpServiceTest {
         defaultSignUpService.checkEmail(testEmailRequest);
 
         verify(authRepository, times(1)).existsByEmail(any());
+        verify(mailUtils, times(1)).sendMail("test@test.com");
+        verify(redisUtils, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("메일 재발송 시간이 지나지 않은 이메일은 메일을 보내지 않음")
+    void testCheckEmailThrownByRedisInvalidSubscriptionException() {
+        given(authRepository.existsByEmail(any())).willReturn(false);
+        given(redisUtils.setIfAbsent(any(), any())).willReturn(false);
+
+        EmailRequest testEmailRequest = new EmailRequest();
+
+        ReflectionTestUtils.setField(testEmailRequest, "email", "test@test.com");
+        ReflectionTestUtils.setField(testEmailRequest, "isReferrer", false);
+
+        assertThatThrownBy(() -> defaultSignUpService.checkEmail(testEmailRequest))
+            .isInstanceOf(RedisInvalidSubscriptionException.class);
+
+        verify(mailUtils, never()).sendMail(any());
+    }
+
+    @Test
+    @DisplayName("메일 발송에 실패하면 재발송 제한 해제")
+    void testCheckEmailSendMailFail() {
+        given(authRepository.existsByEmail(any())).willReturn(false);
+        given(redisUtils.setIfAbsent(any(), any())).willReturn(true);
+        given(mailUtils.sendMail(any())).willReturn(false);
+
+        EmailRequest testEmailRequest = new EmailRequest();
+
+        ReflectionTestUtils.setField(testEmailRequest, "email", "test@test.com");
+        ReflectionTestUtils.setField(testEmailRequest, "isReferrer", false);
+
+        defaultSignUpService.checkEmail(testEmailRequest);
+
+        verify(redisUtils, times(1)).delete("test@test.com");
     }
 
     @Test
@@ -243,7 +280,6 @@ class DefaultSignUpServiceTest {
         EmailUseRequest emailUseRequest = new EmailUseRequest();
         ReflectionTestUtils.setField(emailUseRequest, "email", "overlap@email.com");
 
-        given(redisUtils.hasKey(emailUseRequest.getEmail())).willReturn(true);
         doNothing().when(redisUtils).deleteAuth(anyString());
 
         defaultSignUpService.useEmail(emailUseRequest);
@@ -2,19 +2,19 @@ package com.nhnacademy.marketgg.auth.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
+import com.nhnacademy.marketgg.auth.constant.Roles;
 import com.nhnacademy.marketgg.auth.entity.Auth;
 import com.nhnacademy.marketgg.auth.exception.AuthNotFoundException;
 import com.nhnacademy.marketgg.auth.jwt.CustomUser;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
-import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,21 +36,15 @@ class DefaultUserDetailsServiceTest {
     @Mock
     private AuthRepository authRepository;
 
-    @Mock
-    private RoleRepository roleRepository;
-
     @DisplayName("Email 로 회원 찾기")
     @Test
     void testLoadUserByUsername() {
-        Auth mockAuth = mock(Auth.class);
-        given(mockAuth.isWithdraw()).willReturn(true);
-        given(authRepository.findByEmail(anyString())).willReturn(Optional.of(mockAuth));
-        given(roleRepository.findRolesByAuthId(anyLong())).willReturn(new ArrayList<>());
+        CustomUser loginUser = new CustomUser("uuid", "password", List.of(Roles.ROLE_USER), true);
+        given(authRepository.findLoginUserByEmail(anyString())).willReturn(Optional.of(loginUser));
 
         UserDetails userDetails = defaultUserDetailsService.loadUserByUsername("email");
 
-        then(authRepository).should(times(1)).findByEmail(anyString());
-        then(roleRepository).should(times(1)).findRolesByAuthId(anyLong());
+        then(authRepository).should(times(1)).findLoginUserByEmail(anyString());
 
         assertThat(userDetails).isNotNull()
                                .isInstanceOf(CustomUser.class);
@@ -61,13 +55,26 @@ class DefaultUserDetailsServiceTest {
     void testLoadUserByUsername_fail() {
         String email = "email";
 
-        given(authRepository.findByEmail(email))
-                .willThrow(new AuthNotFoundException(email));
-        given(roleRepository.findRolesByAuthId(anyLong()))
-                .willReturn(new ArrayList<>());
+        given(authRepository.findLoginUserByEmail(email))
+                .willReturn(Optional.empty());
 
         assertThatThrownBy(() -> defaultUserDetailsService.loadUserByUsername(email))
                 .isInstanceOf(AuthNotFoundException.class);
     }
 
+    @DisplayName("로그인 성공 시 비밀번호 해시 교체")
+    @Test
+    void testUpdatePassword() {
+        Auth mockAuth = mock(Auth.class);
+        CustomUser user = new CustomUser("uuid", "$2a$04$old", new ArrayList<>(), false);
+        given(authRepository.findByUuid("uuid")).willReturn(Optional.of(mockAuth));
+
+        UserDetails userDetails = defaultUserDetailsService.updatePassword(user, "{bcrypt}$2a$12$new");
+
+        then(mockAuth).should(times(1)).upgradePassword("{bcrypt}$2a$12$new");
+
+        assertThat(userDetails.getUsername()).isEqualTo("uuid");
+        assertThat(userDetails.getPassword()).isEqualTo("{bcrypt}$2a$12$new");
+    }
+
 }
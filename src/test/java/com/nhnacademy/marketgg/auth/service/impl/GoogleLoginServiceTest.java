@@ -17,21 +17,24 @@ import com.nhnacademy.marketgg.auth.dto.response.login.oauth.google.GoogleProfil
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.OauthLoginResponse;
 import com.nhnacademy.marketgg.auth.dto.response.login.oauth.TokenResponse;
 import com.nhnacademy.marketgg.auth.entity.Auth;
-import com.nhnacademy.marketgg.auth.entity.Role;
 import com.nhnacademy.marketgg.auth.jwt.TokenUtils;
 import com.nhnacademy.marketgg.auth.oauth2.OAuthToken;
 import com.nhnacademy.marketgg.auth.repository.auth.AuthRepository;
 import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
+import com.nhnacademy.marketgg.auth.util.RedisCircuitBreaker;
+import com.nhnacademy.marketgg.auth.util.RoleCatalog;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpEntity;
@@ -51,6 +54,9 @@ class GoogleLoginServiceTest {
     @Mock
     RoleRepository roleRepository;
 
+    @Mock
+    RoleCatalog roleCatalog;
+
     @Mock
     TokenUtils tokenUtils;
 
@@ -60,6 +66,9 @@ class GoogleLoginServiceTest {
     @Mock
     GoogleAdapter googleAdapter;
 
+    @Spy
+    RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(50, 250, 10_000L, 50, 10);
+
     @Test
     @DisplayName("구글 프로필 요청")
     void testRequestProfile() {
@@ -86,7 +95,8 @@ class GoogleLoginServiceTest {
             .willReturn(ResponseEntity.of(Optional.of(googleProfile)));
 
         given(authRepository.findByEmailAndProvider(googleProfile.getEmail(), Provider.GOOGLE)).willReturn(Optional.of(auth));
-        given(roleRepository.findRolesByAuthId(auth.getId())).willReturn(List.of(new Role(ROLE_USER)));
+        given(roleRepository.findRoleIdsByAuthId(auth.getId())).willReturn(List.of(1L));
+        given(roleCatalog.getNames(List.of(1L))).willReturn(Set.of(ROLE_USER));
         given(tokenUtils.saveRefreshToken(any(redisTemplate.getClass()), any(Authentication.class)))
             .willReturn(tokenResponse);
 
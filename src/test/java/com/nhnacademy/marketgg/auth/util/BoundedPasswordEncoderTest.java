@@ -0,0 +1,86 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.marketgg.auth.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해시하고 해시 시간을 기록")
+    void testMatches() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(null), 1, 1, 1_000L, 1L);
+        passwordEncoder.bindTo(meterRegistry);
+
+        assertThat(passwordEncoder.matches("password", passwordEncoder.encode("password"))).isTrue();
+        assertThat(meterRegistry.get("password.hash").timer().count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 기다리지 않고 거부")
+    void testRejectWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(release), 1, 1, 5_000L, 3L);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> passwordEncoder.encode("running"));
+            callers.submit(() -> passwordEncoder.encode("queued"));
+            TimeUnit.MILLISECONDS.sleep(200L);
+
+            assertThatThrownBy(() -> passwordEncoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+
+        PlainPasswordEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+
+    }
+
+}
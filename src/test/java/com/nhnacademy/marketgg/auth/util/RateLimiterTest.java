@@ -0,0 +1,70 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+class RateLimiterTest {
+
+    private static final List<String> KEYS = List.of("rate:login:account:test@test.com");
+
+    RedisTemplate<String, Object> redisTemplate;
+    RateLimiter rateLimiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        rateLimiter = new RateLimiter(redisTemplate, new RedisCircuitBreaker(50, 250, 10_000L, 50, 10),
+                                      60_000L, 30, 2, 10, 100);
+    }
+
+    @Test
+    @DisplayName("로컬 토큰 버킷이 비면 Redis 를 호출하지 않고 거부")
+    void testLocalBucket() {
+        given(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(), eq(KEYS), any(),
+                                    any(), any(), any()))
+            .willReturn(0L);
+
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_ACCOUNT, "test@test.com")).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_ACCOUNT, "test@test.com")).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_ACCOUNT, "test@test.com")).isPositive();
+
+        then(redisTemplate).should(times(2)).execute(any(RedisScript.class), any(RedisSerializer.class), any(),
+                                                     eq(KEYS), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스까지 합쳐 한도를 넘으면 Redis 가 알려준 시간만큼 거부")
+    void testSlidingWindow() {
+        given(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(), eq(KEYS), any(),
+                                    any(), any(), any()))
+            .willReturn(3_000L);
+
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_ACCOUNT, "test@test.com")).isEqualTo(3_000L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 토큰 버킷으로만 판단")
+    void testRedisUnavailable() {
+        given(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(), eq(KEYS), any(),
+                                    any(), any(), any()))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_ACCOUNT, "test@test.com")).isZero();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.nhnacademy.marketgg.auth.constant.Roles;
+import com.nhnacademy.marketgg.auth.entity.Role;
+import com.nhnacademy.marketgg.auth.repository.role.RoleRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RoleCatalogTest {
+
+    RoleRepository roleRepository;
+    Role admin;
+    Role user;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+
+        admin = new Role(Roles.ROLE_ADMIN);
+        ReflectionTestUtils.setField(admin, "id", 1L);
+        user = new Role(Roles.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", 2L);
+    }
+
+    @Test
+    @DisplayName("시작 시 읽어온 권한 목록에서 조회")
+    void testGetRole() {
+        given(roleRepository.findAll()).willReturn(List.of(admin, user));
+
+        RoleCatalog roleCatalog = new RoleCatalog(roleRepository);
+
+        assertThat(roleCatalog.getRole(Roles.ROLE_USER)).containsSame(user);
+        assertThat(roleCatalog.getNames(List.of(1L, 2L))).containsExactlyInAnyOrder(Roles.ROLE_ADMIN,
+                                                                                     Roles.ROLE_USER);
+        then(roleRepository).should(times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("목록에 없는 권한은 다시 읽어온 뒤 조회")
+    void testRefreshOnMiss() {
+        given(roleRepository.findAll()).willReturn(List.of(admin))
+                                       .willReturn(List.of(admin, user));
+
+        RoleCatalog roleCatalog = new RoleCatalog(roleRepository);
+
+        assertThat(roleCatalog.getRole(Roles.ROLE_USER)).containsSame(user);
+        assertThat(roleCatalog.getNames(List.of(2L, 3L))).containsExactly(Roles.ROLE_USER);
+        then(roleRepository).should(times(3)).findAll();
+    }
+
+}